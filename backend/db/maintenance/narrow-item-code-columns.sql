@@ -0,0 +1,24 @@
+-- Narrows items.assigning_department and items.type to char(2) once ItemCodeBackfill has rewritten
+-- every legacy value. Not a Flyway migration: a MODIFY of the column type copies the table and blocks
+-- writes on MySQL for its whole duration, so it is run online, outside application startup. (V14 already
+-- narrows them on a database that had no items when it was migrated; there is nothing to do there.)
+--
+-- 1. Check that the backfill is done; both counts must be 0 (the app logs "Rewrote N items ..." while
+--    it still finds legacy rows):
+select count(*) from items where char_length(assigning_department) > 2;
+select count(*) from items where char_length(type) > 2;
+
+-- 2. Run the change with pt-online-schema-change, which copies the table in chunks behind triggers
+--    and swaps it in with a short metadata lock (gh-ost works the same way):
+--
+--    pt-online-schema-change --alter "modify assigning_department char(2), modify type char(2)" \
+--        --chunk-size 1000 --max-load Threads_running=50 --critical-load Threads_running=100 \
+--        D=itemdb,t=items --execute
+--
+--    Drop --execute for a dry run first. On a small table in a maintenance window the plain statement
+--    below does the same:
+--
+--    alter table items modify assigning_department char(2), modify type char(2);
+--
+-- The entity mapping (Item, columnDefinition char(2)) validates against both widths, so the app keeps
+-- running across the change.
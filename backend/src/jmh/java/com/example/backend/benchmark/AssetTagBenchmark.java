@@ -0,0 +1,44 @@
+package com.example.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.backend.model.Department;
+import com.example.backend.model.Type;
+import com.example.backend.service.AssetTags;
+
+// Formatting and parsing of asset tags; allocation itself is a database round trip per block
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AssetTagBenchmark {
+
+    private final String assetTag = "CMX-IT-2610-CO-LAPTOP-0042";
+    private long sequence = 42;
+
+    @Benchmark
+    public String format() {
+        return AssetTags.format(Department.IT, "2610", Type.CO, "laptop", sequence++);
+    }
+
+    @Benchmark
+    public String seriesKey() {
+        return AssetTags.seriesKey(Department.IT, "2610", Type.CO);
+    }
+
+    @Benchmark
+    public long sequenceOf() {
+        return AssetTags.sequenceOf(assetTag);
+    }
+
+    @Benchmark
+    public String currentYearMonth() {
+        return AssetTags.currentYearMonth();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.backend.model.Department;
+import com.example.backend.model.DepartmentConverter;
+import com.example.backend.model.Type;
+import com.example.backend.model.TypeConverter;
+
+// Column <-> enum conversions run once per attribute per row loaded or written
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ConverterBenchmark {
+
+    private final TypeConverter typeConverter = new TypeConverter();
+    private final DepartmentConverter departmentConverter = new DepartmentConverter();
+
+    // Values as stored: two-letter codes
+    private final String typeColumn = typeConverter.convertToDatabaseColumn(Type.EL);
+    private final String departmentColumn = departmentConverter.convertToDatabaseColumn(Department.IT);
+
+    @Benchmark
+    public String typeToColumn() {
+        return typeConverter.convertToDatabaseColumn(Type.EL);
+    }
+
+    @Benchmark
+    public Type typeFromColumn() {
+        return typeConverter.convertToEntityAttribute(typeColumn);
+    }
+
+    @Benchmark
+    public String departmentToColumn() {
+        return departmentConverter.convertToDatabaseColumn(Department.IT);
+    }
+
+    @Benchmark
+    public Department departmentFromColumn() {
+        return departmentConverter.convertToEntityAttribute(departmentColumn);
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.backend.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.backend.dto.CursorPage;
+import com.example.backend.model.Department;
+import com.example.backend.model.Item;
+import com.example.backend.model.Type;
+import com.example.backend.service.AssetTags;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * One GET /api/items page in each negotiated encoding, with and without the gzip Tomcat
+ * applies above server.compression.min-response-size. Time is serialization CPU; the
+ * payload size of each combination is reported per invocation as the "bytes" counter.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemEncodingBenchmark {
+
+    @Param({"50", "500"})
+    public int items;
+
+    @Param({"json", "cbor", "smile"})
+    public String encoding;
+
+    private ObjectMapper objectMapper;
+    private CursorPage<Item> page;
+
+    @Setup
+    public void setUp() {
+        // Configured as BinaryEncodingConfig does it, on top of Boot's defaults (ISO dates)
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper = switch (encoding) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build()).build();
+            default -> builder.build();
+        };
+
+        List<Item> rows = new ArrayList<>(items);
+        Instant updatedAt = Instant.parse("2026-10-01T09:30:00Z");
+        for (int i = 1; i <= items; i++) {
+            Item item = new Item();
+            item.setId((long) i);
+            item.setAssigningDepartment(Department.values()[i % Department.values().length]);
+            item.setType(Type.values()[i % Type.values().length]);
+            item.setSubType("Laptop");
+            item.setAssetTag(AssetTags.format(item.getAssigningDepartment(), "2610", item.getType(), "Laptop", i));
+            item.setSerial("SN-" + (100000 + i));
+            item.setModel("ThinkPad T14 Gen " + (i % 5));
+            item.setStatus(i % 10 == 0 ? "In Repair" : "In Use");
+            item.setDefaultLocation("Floor " + (i % 12));
+            item.setVersion(i % 3);
+            item.setUpdatedAt(updatedAt.plusSeconds(i));
+            rows.add(item);
+        }
+        page = new CursorPage<>(rows, "aWQKNTAwCg");
+    }
+
+    // Payload size, reported next to the time: EVENTS counters are read as they stand, not per operation
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+        public long bytes;
+    }
+
+    @Benchmark
+    public byte[] serialize(Size size) throws IOException {
+        byte[] body = objectMapper.writeValueAsBytes(page);
+        size.bytes = body.length;
+        return body;
+    }
+
+    @Benchmark
+    public byte[] serializeGzipped(Size size) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, page);
+        }
+        size.bytes = bytes.size();
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.backend.benchmark;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.backend.model.Department;
+import com.example.backend.model.Item;
+import com.example.backend.model.Type;
+import com.example.backend.service.AssetTags;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Serialising one page of items, as GET /api/items does
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ItemJsonBenchmark {
+
+    @Param({"50", "500"})
+    public int items;
+
+    private ObjectMapper objectMapper;
+    private List<Item> page;
+
+    @Setup
+    public void setUp() {
+        // The mapper the app serializes with: Boot's defaults (registered modules, ISO dates)
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        Instant updatedAt = Instant.parse("2026-10-01T09:30:00Z");
+        page = new ArrayList<>(items);
+        for (int i = 1; i <= items; i++) {
+            Item item = new Item();
+            item.setId((long) i);
+            item.setAssigningDepartment(i % 2 == 0 ? Department.IT : Department.GS);
+            item.setType(Type.values()[i % Type.values().length]);
+            item.setSubType("Laptop");
+            item.setAssetTag(AssetTags.format(item.getAssigningDepartment(), "2610", item.getType(), "Laptop", i));
+            item.setSerial("SN-" + (100000 + i));
+            item.setModel("ThinkPad T14 Gen " + (i % 5));
+            item.setStatus("In Use");
+            item.setDefaultLocation("Floor " + (i % 12));
+            item.setVersion(i % 3);
+            item.setUpdatedAt(updatedAt.plusSeconds(i));
+            page.add(item);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
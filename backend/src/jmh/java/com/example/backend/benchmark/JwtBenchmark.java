@@ -0,0 +1,76 @@
+package com.example.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.backend.model.Role;
+import com.example.backend.security.JwtClaims;
+import com.example.backend.security.JwtUtil;
+
+// Token issue and verification, with the verified-token cache hit and missed
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs256";
+
+    private JwtUtil cached;
+    private JwtUtil uncached;
+    private String token;
+    private String[] alternating;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cached = jwtUtil(10_000);
+        // A one-entry cache is cleared by every insert, so two alternating tokens always miss
+        uncached = jwtUtil(1);
+        token = cached.generateToken(7L, "Ada", "ada@example.com", Role.admin);
+        alternating = new String[] {
+                uncached.generateToken(7L, "Ada", "ada@example.com", Role.admin),
+                uncached.generateToken(8L, "Grace", "grace@example.com", Role.user)};
+        cached.verify(token);
+    }
+
+    private static JwtUtil jwtUtil(int cacheMaxEntries) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxEntries", cacheMaxEntries);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cached.generateToken(7L, "Ada", "ada@example.com", Role.admin);
+    }
+
+    @Benchmark
+    public JwtClaims verifyCached() {
+        return cached.verify(token);
+    }
+
+    @Benchmark
+    public JwtClaims verifyUncached() {
+        return uncached.verify(alternating[next++ & 1]);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return cached.isTokenValid(token);
+    }
+
+    @Benchmark
+    public Role extractRole() {
+        return cached.extractRole(token);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.example.backend.config.QrCodeProperties;
+import com.example.backend.dto.QrImage;
+import com.example.backend.service.QrCodeServiceImpl;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Uncached QR rendering (ZXing encode + PNG write) at several image sizes
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QrCodeBenchmark {
+
+    @Param({"200", "400", "800"})
+    public int size;
+
+    private QrCodeServiceImpl qrCodeService;
+
+    @Setup
+    public void setUp() {
+        QrCodeProperties properties = new QrCodeProperties();
+        properties.setSize(size);
+        properties.setMargin(4);
+        properties.setErrorCorrection(ErrorCorrectionLevel.L);
+        properties.setCacheMaxBytes(0); // nothing fits, so every call renders
+        qrCodeService = new QrCodeServiceImpl(properties, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public QrImage render() {
+        return qrCodeService.render("CMX-IT-2610-CO-LAPTOP-0042");
+    }
+}
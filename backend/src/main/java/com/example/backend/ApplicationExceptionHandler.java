@@ -8,9 +8,11 @@ import java.util.List;
 
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -18,15 +20,23 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import com.example.backend.exception.ChangeTokenExpiredException;
 import com.example.backend.exception.ErrorResponse;
+import com.example.backend.exception.EventStreamsBusyException;
 import com.example.backend.exception.FailedToGenerateQRException;
 import com.example.backend.exception.InsufficientPrivilegesException;
+import com.example.backend.exception.InvalidCursorException;
 import com.example.backend.exception.InvalidJwtException;
 import com.example.backend.exception.InvalidLoginCredentialsException;
 import com.example.backend.exception.DuplicateAssetTagException;
 import com.example.backend.exception.DuplicateEmailException;
 import com.example.backend.exception.ItemNotFoundException;
+import com.example.backend.exception.ItemVersionMismatchException;
+import com.example.backend.exception.ItemWithAssetTagNotFoundException;
+import com.example.backend.exception.PasswordHashingBusyException;
+import com.example.backend.exception.RetagJobNotFoundException;
 import com.example.backend.exception.SelfOperationException;
+import com.example.backend.exception.TooManyLabelsException;
 import com.example.backend.exception.UserNotFoundException;
 import com.example.backend.exception.UserWithEmailNotFoundException;
 
@@ -76,12 +86,63 @@ public class ApplicationExceptionHandler extends ResponseEntityExceptionHandler
         return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
     }
     
-    @ExceptionHandler({ItemNotFoundException.class, UserNotFoundException.class, UserWithEmailNotFoundException.class})
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<Object> handleInvalidCursorException(InvalidCursorException ex) {
+        ErrorResponse error = new ErrorResponse(Arrays.asList(ex.getMessage()));  
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler({ItemNotFoundException.class, ItemWithAssetTagNotFoundException.class, UserNotFoundException.class,
+            UserWithEmailNotFoundException.class, RetagJobNotFoundException.class})
     public ResponseEntity<Object> handleResourceNotFoundException(RuntimeException ex) {
         ErrorResponse error = new ErrorResponse(Arrays.asList(ex.getMessage()));  
         return new ResponseEntity<>(error, HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<Object> handleChangeTokenExpiredException(ChangeTokenExpiredException ex) {
+        ErrorResponse error = new ErrorResponse(Arrays.asList(ex.getMessage()));
+        return new ResponseEntity<>(error, HttpStatus.GONE);
+    }
+
+    // If-Match named an older version than the stored one
+    @ExceptionHandler(ItemVersionMismatchException.class)
+    public ResponseEntity<Object> handleItemVersionMismatchException(ItemVersionMismatchException ex) {
+        ErrorResponse error = new ErrorResponse(Arrays.asList(ex.getMessage()));
+        return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    // Another write committed between our read and our versioned UPDATE
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        ErrorResponse error = new ErrorResponse(Arrays.asList("The record was changed by another request. Reload it and try again."));
+        return new ResponseEntity<>(error, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Object> handlePasswordHashingBusyException(PasswordHashingBusyException ex) {
+        ErrorResponse error = new ErrorResponse(Arrays.asList(ex.getMessage()));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return new ResponseEntity<>(error, headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    // Content type set explicitly: the client asked for text/event-stream, which an ErrorResponse can't be
+    @ExceptionHandler(EventStreamsBusyException.class)
+    public ResponseEntity<Object> handleEventStreamsBusyException(EventStreamsBusyException ex) {
+        ErrorResponse error = new ErrorResponse(Arrays.asList(ex.getMessage()));
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new ResponseEntity<>(error, headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(TooManyLabelsException.class)
+    public ResponseEntity<Object> handleTooManyLabelsException(TooManyLabelsException ex) {
+        ErrorResponse error = new ErrorResponse(Arrays.asList(ex.getMessage()));
+        return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(EmptyResultDataAccessException.class)
     public ResponseEntity<Object> handleDataAccessException(EmptyResultDataAccessException ex) {
         ErrorResponse error = new ErrorResponse(Arrays.asList("Cannot delete non-existing resource"));  
@@ -0,0 +1,27 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "asset-tags")
+public class AssetTagProperties {
+    private int blockSize = 50;
+    private int maxUpdateAttempts = 3;   // per item update, when the item moves to another series concurrently
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public void setBlockSize(int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public int getMaxUpdateAttempts() {
+        return maxUpdateAttempts;
+    }
+
+    public void setMaxUpdateAttempts(int maxUpdateAttempts) {
+        this.maxUpdateAttempts = maxUpdateAttempts;
+    }
+}
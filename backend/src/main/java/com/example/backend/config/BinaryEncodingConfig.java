@@ -0,0 +1,35 @@
+package com.example.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * CBOR (application/cbor) and Smile (application/x-jackson-smile) alongside JSON, picked
+ * by the request's Accept header; JSON stays the default. Both mappers come from Boot's
+ * builder, so they serialize exactly like the JSON one (ISO dates, same modules).
+ *
+ * Smile also back-references repeated string values, so display names such as
+ * "General Services / Facilities" are written once per response instead of once per row.
+ */
+@Configuration
+public class BinaryEncodingConfig {
+
+    // Jackson2ObjectMapperBuilder is a prototype bean: each converter gets its own builder
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build();
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(factory).build());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.backend.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Caps the number of connections checked out at once with a fair semaphore. With
+ * virtual threads there is no servlet thread pool limiting concurrency any more, so
+ * without this thousands of request threads would pile onto the connection pool (and
+ * MySQL) at once. Callers wait in FIFO order and fail after the acquire timeout.
+ *
+ * Only a virtual thread's first connection takes a permit. A second connection it opens
+ * while holding one (a REQUIRES_NEW transaction, such as an asset tag block reservation)
+ * and connections of platform threads (schedulers, the history writer), whose pools
+ * bound them already, pass straight through. With fewer permits than pooled connections
+ * those always find a free connection, instead of waiting behind requests that each
+ * hold one and wait for them in turn.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxPermits;
+    private final long acquireTimeoutMs;
+    private final ThreadLocal<int[]> heldByThread = ThreadLocal.withInitial(() -> new int[1]); // permits held, 0 or 1
+
+    public ConcurrencyLimitedDataSource(DataSource target, int maxPermits, long acquireTimeoutMs) {
+        super(target);
+        this.permits = new Semaphore(maxPermits, true);
+        this.maxPermits = maxPermits;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        int[] held = acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(), held);
+        } catch (SQLException | RuntimeException e) {
+            release(held);
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        int[] held = acquire();
+        try {
+            return releasingOnClose(obtainTargetDataSource().getConnection(username, password), held);
+        } catch (SQLException | RuntimeException e) {
+            release(held);
+            throw e;
+        }
+    }
+
+    public int getMaxPermits() {
+        return maxPermits;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    // The calling thread's permit count if a permit was taken (the connection gives it back on close), else null
+    private int[] acquire() throws SQLException {
+        int[] held = heldByThread.get();
+        if (!Thread.currentThread().isVirtual() || held[0] > 0) {
+            return null;
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Timed out after " + acquireTimeoutMs + "ms waiting for one of " + maxPermits + " DB permits");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a DB permit", e);
+        }
+        held[0] = 1;
+        return held;
+    }
+
+    private void release(int[] held) {
+        if (held != null) {
+            held[0] = 0;
+            permits.release();
+        }
+    }
+
+    // The permit goes back exactly once, when the caller closes (returns) the connection
+    private Connection releasingOnClose(Connection connection, int[] held) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            release(held);
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
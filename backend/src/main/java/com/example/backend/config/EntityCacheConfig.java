@@ -0,0 +1,62 @@
+package com.example.backend.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.backend.model.Item;
+import com.example.backend.model.User;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Caffeine-backed JCache regions for Hibernate's second-level cache. Every region is
+ * created here with an explicit size and TTL (missing_cache_strategy=fail in
+ * application.properties), so nothing can fall back to an unbounded default cache.
+ *
+ * Hibernate keeps the regions consistent with writes made through JPA; the cache is
+ * local to each instance and nothing invalidates it from the others, so the TTL is what
+ * bounds staleness between instances. Items, whose version is the ETag clients send back
+ * in If-Match, are kept for seconds: a hot item is still served mostly from memory, while
+ * another instance's write shows up within entity-cache.item-ttl.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    // Hibernate's default region names: the entity name, plus a suffix for the natural-id -> id region
+    private static final String NATURAL_ID_SUFFIX = "##NaturalId";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(EntityCacheProperties properties) {
+        // A manager of its own rather than the JVM-wide default, so test contexts sharing a JVM don't share regions
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("urn:entity-cache:" + UUID.randomUUID()), getClass().getClassLoader());
+        createRegion(cacheManager, Item.class.getName(), properties.getItemMaxEntries(), properties.getItemTtl());
+        createRegion(cacheManager, Item.class.getName() + NATURAL_ID_SUFFIX, properties.getItemMaxEntries(), properties.getItemTtl());
+        createRegion(cacheManager, User.class.getName(), properties.getUserMaxEntries(), properties.getUserTtl());
+        createRegion(cacheManager, User.class.getName() + NATURAL_ID_SUFFIX, properties.getUserMaxEntries(), properties.getUserTtl());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheManagerCustomizer(CacheManager entityCacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, long maxEntries, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxEntries));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "entity-cache")
+public class EntityCacheProperties {
+    private long itemMaxEntries = 20_000;
+    private Duration itemTtl = Duration.ofSeconds(5); // how stale another instance's item writes can look here
+    private long userMaxEntries = 2_000;
+    private Duration userTtl = Duration.ofMinutes(1);
+
+    public long getItemMaxEntries() {
+        return itemMaxEntries;
+    }
+
+    public void setItemMaxEntries(long itemMaxEntries) {
+        this.itemMaxEntries = itemMaxEntries;
+    }
+
+    public Duration getItemTtl() {
+        return itemTtl;
+    }
+
+    public void setItemTtl(Duration itemTtl) {
+        this.itemTtl = itemTtl;
+    }
+
+    public long getUserMaxEntries() {
+        return userMaxEntries;
+    }
+
+    public void setUserMaxEntries(long userMaxEntries) {
+        this.userMaxEntries = userMaxEntries;
+    }
+
+    public Duration getUserTtl() {
+        return userTtl;
+    }
+
+    public void setUserTtl(Duration userTtl) {
+        this.userTtl = userTtl;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "item-changes")
+public class ItemChangesProperties {
+    private Duration tombstoneRetention = Duration.ofDays(30);
+    private int blockSize = 100;                                  // change numbers an instance reserves at a time
+    private Duration publishInterval = Duration.ofSeconds(1);     // how far behind the writes the feed may lag
+    private Duration leaseDuration = Duration.ofMinutes(2);       // a block not renewed for this long is taken as abandoned
+
+    public Duration getTombstoneRetention() {
+        return tombstoneRetention;
+    }
+
+    public void setTombstoneRetention(Duration tombstoneRetention) {
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    public void setBlockSize(int blockSize) {
+        this.blockSize = blockSize;
+    }
+
+    public Duration getPublishInterval() {
+        return publishInterval;
+    }
+
+    public void setPublishInterval(Duration publishInterval) {
+        this.publishInterval = publishInterval;
+    }
+
+    public Duration getLeaseDuration() {
+        return leaseDuration;
+    }
+
+    public void setLeaseDuration(Duration leaseDuration) {
+        this.leaseDuration = leaseDuration;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "item-history")
+public class ItemHistoryProperties {
+    private int queueCapacity = 10_000;                  // changes waiting to be written
+    private int batchSize = 500;                         // rows per INSERT batch
+    private Duration retryDelay = Duration.ofSeconds(5);   // between attempts at a batch the database rejected
+    private Duration recoverAfter = Duration.ofMinutes(5); // a change pending this long was never queued or written; recorded as a gap
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public Duration getRetryDelay() {
+        return retryDelay;
+    }
+
+    public void setRetryDelay(Duration retryDelay) {
+        this.retryDelay = retryDelay;
+    }
+
+    public Duration getRecoverAfter() {
+        return recoverAfter;
+    }
+
+    public void setRecoverAfter(Duration recoverAfter) {
+        this.recoverAfter = recoverAfter;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+// Sheet geometry is in PDF points (1/72 in); the defaults are A4 with 3 x 8 labels
+@Component
+@ConfigurationProperties(prefix = "labels")
+public class LabelProperties {
+    private float pageWidth = 595.28f;
+    private float pageHeight = 841.89f;
+    private float margin = 28.35f;       // 10 mm
+    private int columns = 3;
+    private int rows = 8;
+    private int pngDpi = 200;
+    private int parallelism = 0;         // render threads; 0 = one per CPU
+    private int maxLabels = 10_000;
+
+    public float getPageWidth() {
+        return pageWidth;
+    }
+
+    public void setPageWidth(float pageWidth) {
+        this.pageWidth = pageWidth;
+    }
+
+    public float getPageHeight() {
+        return pageHeight;
+    }
+
+    public void setPageHeight(float pageHeight) {
+        this.pageHeight = pageHeight;
+    }
+
+    public float getMargin() {
+        return margin;
+    }
+
+    public void setMargin(float margin) {
+        this.margin = margin;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public void setColumns(int columns) {
+        this.columns = columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public void setRows(int rows) {
+        this.rows = rows;
+    }
+
+    public int getPngDpi() {
+        return pngDpi;
+    }
+
+    public void setPngDpi(int pngDpi) {
+        this.pngDpi = pngDpi;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getMaxLabels() {
+        return maxLabels;
+    }
+
+    public void setMaxLabels(int maxLabels) {
+        this.maxLabels = maxLabels;
+    }
+}
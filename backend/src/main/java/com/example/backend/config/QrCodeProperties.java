@@ -0,0 +1,47 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+
+@Component
+@ConfigurationProperties(prefix = "qr")
+public class QrCodeProperties {
+    private int size = 200;
+    private int margin = 4;
+    private ErrorCorrectionLevel errorCorrection = ErrorCorrectionLevel.L;
+    private long cacheMaxBytes = 16 * 1024 * 1024;
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public int getMargin() {
+        return margin;
+    }
+
+    public void setMargin(int margin) {
+        this.margin = margin;
+    }
+
+    public ErrorCorrectionLevel getErrorCorrection() {
+        return errorCorrection;
+    }
+
+    public void setErrorCorrection(ErrorCorrectionLevel errorCorrection) {
+        this.errorCorrection = errorCorrection;
+    }
+
+    public long getCacheMaxBytes() {
+        return cacheMaxBytes;
+    }
+
+    public void setCacheMaxBytes(long cacheMaxBytes) {
+        this.cacheMaxBytes = cacheMaxBytes;
+    }
+}
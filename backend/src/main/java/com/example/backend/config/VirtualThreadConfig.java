@@ -0,0 +1,56 @@
+package com.example.backend.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.example.backend.diagnostics.VirtualThreadPinningMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Extras for the virtual-thread execution mode (spring.threads.virtual.enabled=true,
+ * see application-virtual.properties). Boot itself moves Tomcat request handling and
+ * the MVC async executor onto virtual threads; this adds a DB concurrency guard and
+ * pinning diagnostics.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    // Post-processors are created before @ConfigurationProperties binding runs, so bind the properties by hand
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        VirtualThreadProperties properties = Binder.get(environment)
+                .bind("virtual-threads", VirtualThreadProperties.class)
+                .orElseGet(VirtualThreadProperties::new);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+                int permits = properties.getDbPermits();
+                if (permits <= 0 && bean instanceof HikariDataSource hikari) {
+                    // Below the pool size, or the gate would only duplicate Hikari's own wait queue
+                    permits = Math.max(1, hikari.getMaximumPoolSize() - properties.getDbReservedConnections());
+                }
+                if (permits <= 0) {
+                    return bean;
+                }
+                return new ConcurrencyLimitedDataSource(dataSource, permits, properties.getDbAcquireTimeoutMs());
+            }
+        };
+    }
+
+    @Bean(destroyMethod = "close")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(VirtualThreadProperties properties, MeterRegistry registry) {
+        return new VirtualThreadPinningMonitor(properties, registry);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "virtual-threads")
+public class VirtualThreadProperties {
+    private int dbPermits = 0;              // concurrent request connections; 0 = maximum-pool-size - dbReservedConnections
+    private int dbReservedConnections = 4;  // kept for nested REQUIRES_NEW connections and platform-thread background work
+    private long dbAcquireTimeoutMs = 5000;
+    private long pinnedThresholdMs = 20;    // report jdk.VirtualThreadPinned events at least this long
+    private int pinnedEventBuffer = 100;
+
+    public int getDbPermits() {
+        return dbPermits;
+    }
+
+    public void setDbPermits(int dbPermits) {
+        this.dbPermits = dbPermits;
+    }
+
+    public int getDbReservedConnections() {
+        return dbReservedConnections;
+    }
+
+    public void setDbReservedConnections(int dbReservedConnections) {
+        this.dbReservedConnections = dbReservedConnections;
+    }
+
+    public long getDbAcquireTimeoutMs() {
+        return dbAcquireTimeoutMs;
+    }
+
+    public void setDbAcquireTimeoutMs(long dbAcquireTimeoutMs) {
+        this.dbAcquireTimeoutMs = dbAcquireTimeoutMs;
+    }
+
+    public long getPinnedThresholdMs() {
+        return pinnedThresholdMs;
+    }
+
+    public void setPinnedThresholdMs(long pinnedThresholdMs) {
+        this.pinnedThresholdMs = pinnedThresholdMs;
+    }
+
+    public int getPinnedEventBuffer() {
+        return pinnedEventBuffer;
+    }
+
+    public void setPinnedEventBuffer(int pinnedEventBuffer) {
+        this.pinnedEventBuffer = pinnedEventBuffer;
+    }
+}
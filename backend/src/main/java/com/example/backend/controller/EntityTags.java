@@ -0,0 +1,64 @@
+package com.example.backend.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.ToLongFunction;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+
+import com.example.backend.dto.CursorPage;
+
+/**
+ * ETags for versioned entities and for pages of them. A single entity's tag is its
+ * @Version; a page's tag is a digest of its rows' (id, version) pairs and next cursor.
+ * Pages get no Last-Modified: a row deleted from the page leaves every remaining
+ * updatedAt unchanged, so only the tag can tell.
+ *
+ * Tags are weak: the same version is served as JSON, CBOR or Smile, gzipped or not, so
+ * it names the entity's state rather than the bytes (Tomcat also won't compress a
+ * response with a strong tag). If-Match compares that state, so it accepts either form.
+ */
+final class EntityTags {
+
+    // Clients may keep tagged responses but must revalidate them (If-None-Match) before each use
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    // The body's encoding follows Accept; a cached JSON response must not answer a CBOR request
+    static final String[] VARY = {HttpHeaders.ACCEPT};
+
+    private EntityTags() {
+    }
+
+    static String of(long version) {
+        return "W/\"" + version + "\"";
+    }
+
+    static <T> String of(CursorPage<T> page, ToLongFunction<T> id, ToLongFunction<T> version) {
+        StringBuilder rows = new StringBuilder();
+        for (T row : page.getItems()) {
+            rows.append(id.applyAsLong(row)).append(':').append(version.applyAsLong(row)).append(',');
+        }
+        rows.append(page.getNextCursor());
+        return "W/\"" + DigestUtils.md5DigestAsHex(rows.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // Version required by an If-Match header: null when absent or "*", -1 (matches nothing) when it isn't a tag of ours
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
@@ -1,15 +1,45 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.ExportFormat;
+import com.example.backend.dto.ImportReport;
+import com.example.backend.dto.ItemChanges;
+import com.example.backend.dto.ItemFilter;
+import com.example.backend.dto.ItemSortKey;
+import com.example.backend.dto.ItemStats;
+import com.example.backend.dto.LabelFormat;
+import com.example.backend.dto.LabelRequest;
+import com.example.backend.dto.QrImage;
+import com.example.backend.dto.RetagRequest;
 import com.example.backend.model.Item;
+import com.example.backend.model.ItemHistoryEntry;
+import com.example.backend.model.RetagJob;
+import com.example.backend.service.ItemEventStream;
+import com.example.backend.service.ItemExportService;
+import com.example.backend.service.ItemImportService;
+import com.example.backend.service.ItemLabelService;
+import com.example.backend.service.ItemRetagService;
 import com.example.backend.service.ItemService;
 import jakarta.validation.Valid;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import lombok.AllArgsConstructor;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 @AllArgsConstructor
 @RestController
@@ -17,15 +47,110 @@ import java.util.List;
 public class ItemController {
 
     private ItemService itemService;
+    private ItemImportService itemImportService;
+    private ItemExportService itemExportService;
+    private ItemEventStream itemEventStream;
+    private ItemLabelService itemLabelService;
+    private ItemRetagService itemRetagService;
 
     @GetMapping
-    public ResponseEntity<List<Item>> getAllItems() {
-        return new ResponseEntity<>(itemService.getAllItems(), HttpStatus.OK);
+    public ResponseEntity<CursorPage<Item>> getItems(
+        ItemFilter filter,
+        @RequestParam(defaultValue = "id") ItemSortKey sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        // Spring answers 304 itself when If-None-Match matches, before anything is serialized
+        CursorPage<Item> page = itemService.getItems(filter, sort, cursor, size);
+        return ResponseEntity.ok()
+            .eTag(EntityTags.of(page, Item::getId, Item::getVersion))
+            .cacheControl(EntityTags.REVALIDATE)
+            .varyBy(EntityTags.VARY)
+            .body(page);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<Item>> searchItems(
+        @RequestParam("q") String query,
+        @RequestParam(required = false) Integer limit
+    ) {
+        return new ResponseEntity<>(itemService.searchItems(query, limit), HttpStatus.OK);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<ItemStats> getItemStats() {
+        return new ResponseEntity<>(itemService.getStats(), HttpStatus.OK);
+    }
+
+    // Delta sync: what was created, updated or deleted after the 'since' token (everything, without one)
+    @GetMapping("/changes")
+    public ResponseEntity<ItemChanges> getItemChanges(
+        @RequestParam(required = false) String since,
+        @RequestParam(required = false) Integer size
+    ) {
+        return new ResponseEntity<>(itemService.getChanges(since, size), HttpStatus.OK);
+    }
+
+    // Live created/updated/deleted events; a reconnecting client sends Last-Event-ID to get what it missed
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamItemEvents(
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+        Authentication authentication
+    ) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> details = (Map<String, Object>) authentication.getDetails();
+        return itemEventStream.open(lastEventId, (Long) details.get("expiresAt"));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportItems(
+        ItemFilter filter,
+        @RequestParam(defaultValue = "csv") ExportFormat format
+    ) {
+        MediaType contentType = switch (format) {
+            case csv -> MediaType.parseMediaType("text/csv");
+            case ndjson -> MediaType.APPLICATION_NDJSON;
+            case xlsx -> MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        };
+        StreamingResponseBody body = out -> itemExportService.export(filter, format, out);
+
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename("items." + format.name()).build().toString())
+            .body(body);
+    }
+
+    // The QR scanner's lookup: a scanned label resolves to its item without loading the inventory
+    @GetMapping("/by-tag/{assetTag}")
+    public ResponseEntity<Item> getItemByAssetTag(@PathVariable String assetTag) {
+        return versioned(ResponseEntity.ok(), itemService.getItemByAssetTag(assetTag));
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<Item> getItemById(@PathVariable Long id) {
-        return new ResponseEntity<>(itemService.getItemById(id), HttpStatus.OK);
+        return versioned(ResponseEntity.ok(), itemService.getItemById(id));
+    }
+
+    // Who changed what, newest first; written asynchronously, so the latest change can take a moment to appear
+    @GetMapping("/{id}/history")
+    public ResponseEntity<CursorPage<ItemHistoryEntry>> getItemHistory(
+        @PathVariable Long id,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        return new ResponseEntity<>(itemService.getHistory(id, cursor, size), HttpStatus.OK);
+    }
+
+    // The qrCodeUrl on each item carries a version param, so the image can be cached for a long time.
+    // Spring answers a matching If-None-Match (lists and W/ tags included) with 304
+    @GetMapping(value = "/{id}/qr", produces = MediaType.IMAGE_PNG_VALUE)
+    public ResponseEntity<byte[]> getItemQrCode(@PathVariable Long id) {
+        QrImage qrCode = itemService.getQrCode(id);
+        return ResponseEntity.ok()
+            .eTag(qrCode.getEtag())
+            .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable())
+            .body(qrCode.getPng());
     }
 
     @PostMapping
@@ -33,9 +158,59 @@ public class ItemController {
         return new ResponseEntity<>(itemService.createItem(item), HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ImportReport> importItemsCsv(InputStream body) throws IOException {
+        return new ResponseEntity<>(itemImportService.importCsv(body), HttpStatus.OK);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportReport> importItemsNdjson(InputStream body) throws IOException {
+        return new ResponseEntity<>(itemImportService.importNdjson(body), HttpStatus.OK);
+    }
+
+    // Printable QR label sheets; the first pages are on their way while later ones are still rendering
+    @PostMapping("/labels")
+    public ResponseEntity<StreamingResponseBody> printLabels(@RequestBody LabelRequest request) {
+        List<String> assetTags = itemLabelService.resolveAssetTags(request);
+        if (assetTags.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+        LabelFormat format = request.getFormat() != null ? request.getFormat() : LabelFormat.pdf;
+        MediaType contentType = switch (format) {
+            case pdf -> MediaType.APPLICATION_PDF;
+            case png -> MediaType.parseMediaType("application/zip");
+        };
+        StreamingResponseBody body = out -> itemLabelService.render(assetTags, format, out);
+
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(format == LabelFormat.pdf ? "labels.pdf" : "labels.zip").build().toString())
+            .body(body);
+    }
+
+    // Re-tags every matching item in the background; the job at Location reports progress
+    @PostMapping("/retag-jobs")
+    public ResponseEntity<RetagJob> startRetagJob(@Valid @RequestBody RetagRequest request, Authentication authentication) {
+        @SuppressWarnings("unchecked")
+        Map<String, Object> details = (Map<String, Object>) authentication.getDetails();
+        RetagJob job = itemRetagService.startJob(request, (Long) details.get("userId"));
+        return ResponseEntity.accepted().location(URI.create("/api/items/retag-jobs/" + job.getId())).body(job);
+    }
+
+    @GetMapping("/retag-jobs/{id}")
+    public ResponseEntity<RetagJob> getRetagJob(@PathVariable Long id) {
+        return new ResponseEntity<>(itemRetagService.getJob(id), HttpStatus.OK);
+    }
+
+    // If-Match carries the ETag the client loaded; an item changed since then is answered with 412
     @PutMapping("/{id}")
-    public ResponseEntity<Item> updateItem(@PathVariable Long id, @Valid @RequestBody Item itemDetails) {
-        return new ResponseEntity<>(itemService.updateItem(id, itemDetails), HttpStatus.OK);
+    public ResponseEntity<Item> updateItem(
+        @PathVariable Long id,
+        @Valid @RequestBody Item itemDetails,
+        @RequestHeader(value = "If-Match", required = false) String ifMatch
+    ) {
+        return versioned(ResponseEntity.ok(), itemService.updateItem(id, itemDetails, EntityTags.expectedVersion(ifMatch)));
     }
 
     @DeleteMapping("/{id}")
@@ -43,4 +218,13 @@ public class ItemController {
         itemService.deleteItem(id);
         return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
+
+    private static ResponseEntity<Item> versioned(ResponseEntity.BodyBuilder response, Item item) {
+        return response
+            .eTag(EntityTags.of(item.getVersion()))
+            .lastModified(item.getUpdatedAt())
+            .cacheControl(EntityTags.REVALIDATE)
+            .varyBy(EntityTags.VARY)
+            .body(item);
+    }
 }
@@ -1,12 +1,12 @@
 package com.example.backend.controller;
 
+import com.example.backend.dto.CursorPage;
 import com.example.backend.dto.RoleUpdateRequest;
+import com.example.backend.dto.UserSortKey;
 import com.example.backend.model.User;
 import com.example.backend.service.UserService;
 import jakarta.validation.Valid;
 
-import java.util.List;
-
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -21,14 +21,29 @@ public class UserController {
 
     @GetMapping
     @PreAuthorize("@authServiceImpl.checkAdminOrSuperAdmin()")
-    public ResponseEntity<List<User>> getAllUsers() {
-        return new ResponseEntity<>(userService.getAllUsers(), HttpStatus.OK);
+    public ResponseEntity<CursorPage<User>> getUsers(
+        @RequestParam(defaultValue = "id") UserSortKey sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        CursorPage<User> page = userService.getUsers(sort, cursor, size);
+        return ResponseEntity.ok()
+            .eTag(EntityTags.of(page, User::getId, User::getVersion))
+            .cacheControl(EntityTags.REVALIDATE)
+            .varyBy(EntityTags.VARY)
+            .body(page);
     }
 
     @GetMapping("/{id}")
     @PreAuthorize("@authServiceImpl.checkAdminOrSuperAdmin()")
     public ResponseEntity<User> getUserById(@PathVariable Long id) {
-        return new ResponseEntity<>(userService.getUserById(id), HttpStatus.OK);
+        User user = userService.getUserById(id);
+        return ResponseEntity.ok()
+            .eTag(EntityTags.of(user.getVersion()))
+            .lastModified(user.getUpdatedAt())
+            .cacheControl(EntityTags.REVALIDATE)
+            .varyBy(EntityTags.VARY)
+            .body(user);
     }
 
     @PostMapping
@@ -0,0 +1,92 @@
+package com.example.backend.diagnostics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.example.backend.config.VirtualThreadProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Streams JFR jdk.VirtualThreadPinned events in-process. A pinned virtual thread
+ * (blocking inside synchronized or a native frame) holds its carrier thread, which
+ * quietly caps throughput; the most recent events are kept for the diagnostics endpoint.
+ */
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    private static final int STACK_DEPTH = 8;
+
+    private final RecordingStream stream;
+    private final Deque<PinnedEvent> recent = new ArrayDeque<>();
+    private final int bufferSize;
+    private final AtomicLong total = new AtomicLong();
+    private final Counter counter;
+
+    @Getter
+    @AllArgsConstructor
+    public static class PinnedEvent {
+        private Instant startTime;
+        private long durationMs;
+        private String thread;
+        private List<String> stackTrace;
+    }
+
+    public VirtualThreadPinningMonitor(VirtualThreadProperties properties, MeterRegistry registry) {
+        this.bufferSize = properties.getPinnedEventBuffer();
+        this.counter = Counter.builder("jvm.threads.virtual.pinned").register(registry);
+
+        this.stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned")
+                .withThreshold(Duration.ofMillis(properties.getPinnedThresholdMs()))
+                .withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::record);
+        stream.startAsync();
+    }
+
+    private void record(RecordedEvent event) {
+        List<String> frames = new ArrayList<>();
+        if (event.getStackTrace() != null) {
+            for (RecordedFrame frame : event.getStackTrace().getFrames()) {
+                if (frames.size() == STACK_DEPTH) break;
+                frames.add(frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber());
+            }
+        }
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : "unknown";
+        PinnedEvent pinned = new PinnedEvent(event.getStartTime(), event.getDuration().toMillis(), thread, frames);
+
+        total.incrementAndGet();
+        counter.increment();
+        synchronized (recent) {
+            recent.addFirst(pinned);
+            if (recent.size() > bufferSize) {
+                recent.removeLast();
+            }
+        }
+    }
+
+    public long getTotal() {
+        return total.get();
+    }
+
+    public List<PinnedEvent> getRecent() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.backend.diagnostics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.config.ConcurrencyLimitedDataSource;
+
+// GET /actuator/virtualthreads: execution mode, DB permit usage and recent pinning events
+@Component
+@Endpoint(id = "virtualthreads")
+public class VirtualThreadsEndpoint {
+
+    private final boolean enabled;
+    private final ObjectProvider<VirtualThreadPinningMonitor> monitor;
+    private final ObjectProvider<DataSource> dataSource;
+
+    public VirtualThreadsEndpoint(
+            @Value("${spring.threads.virtual.enabled:false}") boolean enabled,
+            ObjectProvider<VirtualThreadPinningMonitor> monitor,
+            ObjectProvider<DataSource> dataSource) {
+        this.enabled = enabled;
+        this.monitor = monitor;
+        this.dataSource = dataSource;
+    }
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("enabled", enabled);
+
+        if (dataSource.getIfAvailable() instanceof ConcurrencyLimitedDataSource limited) {
+            report.put("dbPermits", Map.of(
+                    "max", limited.getMaxPermits(),
+                    "available", limited.getAvailablePermits(),
+                    "waiting", limited.getWaiting()));
+        }
+
+        VirtualThreadPinningMonitor pinning = monitor.getIfAvailable();
+        if (pinning != null) {
+            report.put("pinnedTotal", pinning.getTotal());
+            report.put("pinnedRecent", pinning.getRecent());
+        }
+        return report;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor; // null when there are no more rows
+
+    // Build a page from a seek query that fetched pageSize + 1 rows; the extra row only signals that more exist
+    public static <T> CursorPage<T> of(List<T> rows, int pageSize, Function<T, PageCursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> page = new ArrayList<>(rows.subList(0, pageSize));
+        return new CursorPage<>(page, cursorOf.apply(page.get(pageSize - 1)).encode());
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.backend.dto;
+
+public enum ExportFormat {
+    csv, ndjson, xlsx
+}
@@ -0,0 +1,15 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportReport {
+    private int total;
+    private int created;
+    private int failed;
+    private List<ImportRowResult> rows;
+}
@@ -0,0 +1,23 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ImportRowResult {
+    private int row; // 1-based data row (CSV header and blank NDJSON lines are not counted)
+    private Long id;
+    private String assetTag;
+    private List<String> errors;
+
+    public static ImportRowResult created(int row, Long id, String assetTag) {
+        return new ImportRowResult(row, id, assetTag, List.of());
+    }
+
+    public static ImportRowResult failed(int row, List<String> errors) {
+        return new ImportRowResult(row, null, null, errors);
+    }
+}
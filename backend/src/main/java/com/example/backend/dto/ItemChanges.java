@@ -0,0 +1,19 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+import com.example.backend.model.Item;
+import com.example.backend.model.ItemTombstone;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// One page of GET /api/items/changes; pass nextToken as 'since' to continue (or to poll once hasMore is false)
+@Getter
+@AllArgsConstructor
+public class ItemChanges {
+    private List<Item> items;           // created or updated, current state
+    private List<ItemTombstone> deleted;
+    private String nextToken;
+    private boolean hasMore;
+}
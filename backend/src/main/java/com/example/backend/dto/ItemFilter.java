@@ -0,0 +1,17 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.Department;
+import com.example.backend.model.Type;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// Optional equality filters shared by the item list and export endpoints; null means "any"
+@Getter
+@Setter
+public class ItemFilter {
+    private Department department; // code, e.g. IT
+    private Type type;             // code, e.g. CO
+    private String status;
+    private String location;
+}
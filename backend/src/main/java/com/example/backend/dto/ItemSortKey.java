@@ -0,0 +1,5 @@
+package com.example.backend.dto;
+
+public enum ItemSortKey {
+    id, assetTag, model, status
+}
@@ -0,0 +1,17 @@
+package com.example.backend.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Item counts per dimension; department and type are keyed by display name, as in item JSON
+@Getter
+@AllArgsConstructor
+public class ItemStats {
+    private long total;
+    private Map<String, Long> byDepartment;
+    private Map<String, Long> byType;
+    private Map<String, Long> byStatus;
+    private Map<String, Long> byLocation;
+}
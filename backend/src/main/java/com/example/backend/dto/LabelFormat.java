@@ -0,0 +1,6 @@
+package com.example.backend.dto;
+
+// pdf: one document, a page per sheet; png: a zip with one image per sheet
+public enum LabelFormat {
+    pdf, png
+}
@@ -0,0 +1,15 @@
+package com.example.backend.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+// Items to label: the given ids, or else every item matching the filter (all items when both are absent)
+@Getter
+@Setter
+public class LabelRequest {
+    private List<Long> ids;
+    private ItemFilter filter;
+    private LabelFormat format = LabelFormat.pdf;
+}
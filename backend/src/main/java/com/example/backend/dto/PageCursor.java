@@ -0,0 +1,45 @@
+package com.example.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.example.backend.exception.InvalidCursorException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Opaque keyset continuation token: the sort key plus the (value, id) of the
+ * last row on the previous page, base64url encoded.
+ */
+@Getter
+@AllArgsConstructor
+public class PageCursor {
+    private static final char SEPARATOR = '\n';
+
+    private String sort;
+    private long lastId;
+    private String lastValue;
+
+    public String encode() {
+        String raw = sort + SEPARATOR + lastId + SEPARATOR + (lastValue == null ? "" : lastValue);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns null for the first page; rejects tokens issued for a different sort
+    public static PageCursor decode(String token, String expectedSort) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(String.valueOf(SEPARATOR), 3);
+            if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+                throw new InvalidCursorException();
+            }
+            return new PageCursor(parts[0], Long.parseLong(parts[1]), parts[2]);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class QrImage {
+    private byte[] png;
+    private String etag; // content hash of png, unquoted
+}
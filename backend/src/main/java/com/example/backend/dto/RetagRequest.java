@@ -0,0 +1,28 @@
+package com.example.backend.dto;
+
+import com.example.backend.model.Department;
+import com.example.backend.model.Type;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.Setter;
+
+// Every item matching the filter (all items when absent) gets the given department, type and/or subType
+@Getter
+@Setter
+public class RetagRequest {
+    private ItemFilter filter;
+    private Department assigningDepartment;
+    private Type type;
+
+    @Pattern(regexp = ".*\\S.*", message = "SubType must not be blank")
+    private String subType;
+
+    @JsonIgnore
+    @AssertTrue(message = "At least one of assigningDepartment, type or subType is required")
+    public boolean isChangeGiven() {
+        return assigningDepartment != null || type != null || subType != null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.event;
+
+import com.example.backend.model.Item;
+import com.example.backend.security.CurrentUser;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published by item writes inside their transaction. Listeners that maintain derived
+ * state (search index, counters, ...) consume it with @TransactionalEventListener so
+ * rolled-back writes are never observed. before/after are detached copies.
+ */
+@Getter
+@AllArgsConstructor
+public class ItemChangeEvent {
+
+    public enum Kind {
+        CREATED, UPDATED, DELETED
+    }
+
+    private Kind kind;
+    private Item before; // null for CREATED
+    private Item after;  // null for DELETED
+    private long changeSeq; // number of the write (ItemChangeLog); shared by every item of an import chunk
+    private Long userId; // who made the change: the request's user, or whoever started a background job
+
+    public static ItemChangeEvent created(Item item) {
+        return new ItemChangeEvent(Kind.CREATED, null, item.copy(), item.getChangeSeq(), CurrentUser.id());
+    }
+
+    public static ItemChangeEvent updated(Item before, Item after) {
+        return updated(before, after, CurrentUser.id());
+    }
+
+    public static ItemChangeEvent updated(Item before, Item after, Long userId) {
+        return new ItemChangeEvent(Kind.UPDATED, before, after.copy(), after.getChangeSeq(), userId);
+    }
+
+    public static ItemChangeEvent deleted(Item item, long changeSeq) {
+        return new ItemChangeEvent(Kind.DELETED, item.copy(), null, changeSeq, CurrentUser.id());
+    }
+
+    public Long getItemId() {
+        return after != null ? after.getId() : before.getId();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.backend.exception;
+
+public class ChangeTokenExpiredException extends RuntimeException {
+    public ChangeTokenExpiredException() {
+        super("Change token is older than the retained deletions. Sync again without 'since'.");
+    }
+}
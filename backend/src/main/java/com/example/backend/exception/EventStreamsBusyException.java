@@ -0,0 +1,14 @@
+package com.example.backend.exception;
+
+public class EventStreamsBusyException extends RuntimeException {
+    private final int retryAfterSeconds;
+
+    public EventStreamsBusyException(int retryAfterSeconds) {
+        super("Too many open event streams. Please try again shortly.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.backend.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException() {
+        super("Invalid or expired page cursor.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.backend.exception;
+
+public class ItemVersionMismatchException extends RuntimeException {
+    public ItemVersionMismatchException(Long id) {
+        super("Item: '" + id + "' has been changed since it was loaded. Reload it and try again.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.backend.exception;
+
+public class ItemWithAssetTagNotFoundException extends RuntimeException {
+    public ItemWithAssetTagNotFoundException(String assetTag) {
+        super("Item with asset tag: '" + assetTag + "' does not exist in the database.");
+    }
+}
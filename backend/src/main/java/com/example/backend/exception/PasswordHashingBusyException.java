@@ -0,0 +1,14 @@
+package com.example.backend.exception;
+
+public class PasswordHashingBusyException extends RuntimeException {
+    private final int retryAfterSeconds;
+
+    public PasswordHashingBusyException(int retryAfterSeconds) {
+        super("The server is busy. Please try again shortly.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.backend.exception;
+
+public class RetagJobNotFoundException extends RuntimeException {
+    public RetagJobNotFoundException(Long id) {
+        super("Retag job: '" + id + "' does not exist in the database.");
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.backend.exception;
+
+public class TooManyLabelsException extends RuntimeException {
+    public TooManyLabelsException(int maxLabels) {
+        super("A label sheet can hold at most " + maxLabels + " labels. Narrow the selection.");
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// High-water mark of one asset tag series, keyed "<dept>-<YYMM>-<type>"; see AssetTagAllocator
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "asset_tag_sequences")
+public class AssetTagSequence {
+
+    @Id
+    @Column(length = 32)
+    private String seriesKey;
+
+    // First sequence number not yet handed out to any instance
+    @Column(nullable = false)
+    private long nextValue;
+}
@@ -0,0 +1,21 @@
+package com.example.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// A named, database-wide counter; see ItemChangeLog
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "change_sequences")
+public class ChangeSequence {
+
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    @Column(nullable = false)
+    private long lastValue;
+}
@@ -1,24 +1,37 @@
 package com.example.backend.model;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
+// Stored as the two-letter code; the JSON contract keeps the display name (see Department)
 @Converter(autoApply = true)
 public class DepartmentConverter implements AttributeConverter<Department, String> {
 
+    // Display names are still accepted for rows not yet rewritten by ItemCodeBackfill
+    private static final Map<String, Department> BY_COLUMN = new HashMap<>();
+
+    static {
+        for (Department dept : Department.values()) {
+            BY_COLUMN.put(dept.getDisplayName(), dept);
+            BY_COLUMN.put(dept.getCode(), dept);
+        }
+    }
+
     @Override
     public String convertToDatabaseColumn(Department attribute) {
-        return attribute != null ? attribute.getDisplayName() : null;
+        return attribute != null ? attribute.getCode() : null;
     }
 
     @Override
     public Department convertToEntityAttribute(String dbData) {
         if (dbData == null) return null;
-        for (Department dept : Department.values()) {
-            if (dept.getDisplayName().equals(dbData)) {
-                return dept;
-            }
+        Department dept = BY_COLUMN.get(dbData);
+        if (dept == null) {
+            throw new IllegalArgumentException("Unknown department: " + dbData);
         }
-        throw new IllegalArgumentException("Unknown department: " + dbData);
+        return dept;
     }
-}
\ No newline at end of file
+}
@@ -1,16 +1,39 @@
 package com.example.backend.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonProperty.Access;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "items")
+// Second-level cached (regions configured in EntityCacheConfig); assetTag lookups go through the natural-id cache
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
+// Indexes mirror db/migration (Flyway owns the schema); declared here for schemas Hibernate generates in tests
+@Table(name = "items", indexes = {
+        @Index(name = "idx_items_department_type_status", columnList = "assigningDepartment, type, status"),
+        @Index(name = "idx_items_type_status", columnList = "type, status"),
+        @Index(name = "idx_items_status", columnList = "status"),
+        @Index(name = "idx_items_default_location", columnList = "defaultLocation"),
+        @Index(name = "idx_items_model", columnList = "model"),
+        @Index(name = "idx_items_change_seq", columnList = "changeSeq")
+})
 public class Item {
 
     @Id
@@ -18,12 +41,16 @@ public class Item {
     private Long id;
 
     @NotNull(message = "Assigning Department is required")
+    @Column(columnDefinition = "char(2)")
     private Department assigningDepartment;
 
+    // Mutable: the tag is regenerated when department or type changes
+    @NaturalId(mutable = true)
     @Column(unique = true)
     private String assetTag;
 
     @NotNull(message = "Type is required")
+    @Column(columnDefinition = "char(2)")
     private Type type;
 
     @NotBlank(message = "SubType is required")
@@ -40,6 +67,46 @@ public class Item {
     @NotBlank(message = "Default Location is required")
     private String defaultLocation;
 
-    @Lob
-    private byte[] qrCode;
+    // Bumped on every update; exposed as the ETag and checked against If-Match (see EntityTags)
+    @Version
+    @ColumnDefault("0")
+    @JsonProperty(access = Access.READ_ONLY)
+    private long version;
+
+    @UpdateTimestamp
+    @ColumnDefault("current_timestamp(6)")
+    @Column(nullable = false)
+    @JsonProperty(access = Access.READ_ONLY)
+    private Instant updatedAt;
+
+    // Number of the write that last touched this row (ItemChangeLog); orders GET /api/items/changes
+    @JsonIgnore
+    @ColumnDefault("0")
+    private long changeSeq;
+
+    // Detached field-by-field copy, used to snapshot an item around a write
+    public Item copy() {
+        Item copy = new Item();
+        copy.setId(id);
+        copy.setAssigningDepartment(assigningDepartment);
+        copy.setAssetTag(assetTag);
+        copy.setType(type);
+        copy.setSubType(subType);
+        copy.setSerial(serial);
+        copy.setModel(model);
+        copy.setStatus(status);
+        copy.setDefaultLocation(defaultLocation);
+        copy.setVersion(version);
+        copy.setUpdatedAt(updatedAt);
+        copy.setChangeSeq(changeSeq);
+        return copy;
+    }
+
+    // The image is rendered on demand from the asset tag. Every write bumps the version, a re-tag included, so the
+    // URL never repeats for a different tag and clients can cache it indefinitely
+    @JsonProperty(access = Access.READ_ONLY)
+    public String getQrCodeUrl() {
+        if (id == null || assetTag == null) return null;
+        return "/api/items/" + id + "/qr?v=" + version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.example.backend.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Change numbers blockStart..blockEnd reserved by one instance; every write of the block up to safeThrough has
+// committed or rolled back. See ItemChangeLog
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "item_change_blocks", indexes = @Index(name = "idx_item_change_blocks_leased_until", columnList = "leasedUntil"))
+public class ItemChangeBlock {
+
+    @Id
+    private Long blockStart;
+
+    @Column(nullable = false)
+    private long blockEnd;
+
+    @Column(nullable = false)
+    private long safeThrough;
+
+    @Column(nullable = false)
+    private Instant leasedUntil;
+}
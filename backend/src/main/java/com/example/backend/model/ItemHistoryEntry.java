@@ -0,0 +1,54 @@
+package com.example.backend.model;
+
+import java.time.Instant;
+
+import org.hibernate.annotations.Immutable;
+
+import com.example.backend.event.ItemChangeEvent;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// One committed write to an item, as GET /api/items/{id}/history returns it. Rows are only ever appended (see ItemHistoryWriter)
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "item_history", indexes = {
+        @Index(name = "idx_item_history_item_id_change_seq", columnList = "itemId, changeSeq")
+})
+public class ItemHistoryEntry {
+
+    // changes of a write that is known to have happened but whose details were lost (see ItemHistoryWriter)
+    public static final String UNRECORDED = "null";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private long itemId;
+
+    // Orders an item's history; the change number of the write (ItemChangeLog)
+    @JsonIgnore
+    @Column(nullable = false)
+    private long changeSeq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ItemChangeEvent.Kind kind;
+
+    // The acting user; null for writes no user made
+    private Long userId;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+
+    // JSON object of the fields that changed, each as {"from": ..., "to": ...}; UNRECORDED for a gap
+    @JsonRawValue
+    @Column(nullable = false, columnDefinition = "text")
+    private String changes;
+}
@@ -0,0 +1,35 @@
+package com.example.backend.model;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// Left behind by a deleted item so delta sync clients (GET /api/items/changes) can drop their copy
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "item_tombstones", indexes = {
+        @Index(name = "idx_item_tombstones_change_seq", columnList = "changeSeq"),
+        @Index(name = "idx_item_tombstones_deleted_at", columnList = "deletedAt")
+})
+public class ItemTombstone {
+
+    // The deleted item's id
+    @Id
+    @Column(name = "item_id")
+    private Long id;
+
+    private String assetTag;
+
+    @JsonIgnore
+    @Column(nullable = false)
+    private long changeSeq;
+
+    @Column(nullable = false)
+    private Instant deletedAt;
+}
@@ -0,0 +1,47 @@
+package com.example.backend.model;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import org.hibernate.annotations.Immutable;
+
+import com.example.backend.event.ItemChangeEvent;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// A committed change whose history entry hasn't been appended yet; written and cleared over JDBC (see ItemHistoryWriter)
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(PendingItemHistoryEntry.Key.class)
+@Table(name = "item_history_pending", indexes = {
+        @Index(name = "idx_item_history_pending_changed_at", columnList = "changedAt")
+})
+public class PendingItemHistoryEntry {
+
+    @Id
+    private long itemId;
+
+    @Id
+    private long changeSeq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ItemChangeEvent.Kind kind;
+
+    private Long userId;
+
+    @Column(nullable = false)
+    private Instant changedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private long itemId;
+        private long changeSeq;
+    }
+}
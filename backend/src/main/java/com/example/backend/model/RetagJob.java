@@ -0,0 +1,94 @@
+package com.example.backend.model;
+
+import java.time.Instant;
+
+import com.example.backend.dto.ItemFilter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// A bulk re-tag started with POST /api/items/retag-jobs, and how far it has got; see RetagJobRunner
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "retag_jobs", indexes = {
+        @Index(name = "idx_retag_jobs_state_lease_until", columnList = "state, leaseUntil")
+})
+public class RetagJob {
+
+    public enum State {
+        running, completed, failed
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private State state;
+
+    // Which items: the request's ItemFilter, null meaning "any" (exposed as filter)
+    @JsonIgnore
+    @Column(columnDefinition = "char(2)")
+    private Department filterDepartment;
+
+    @JsonIgnore
+    @Column(columnDefinition = "char(2)")
+    private Type filterType;
+
+    @JsonIgnore
+    private String filterStatus;
+
+    @JsonIgnore
+    private String filterLocation;
+
+    // What they become; null keeps each item's own value
+    @Column(columnDefinition = "char(2)")
+    private Department assigningDepartment;
+
+    @Column(columnDefinition = "char(2)")
+    private Type type;
+
+    private String subType;
+
+    // Progress: items and chunks were counted when the job started
+    private long totalItems;
+    private int totalChunks;
+    private int completedChunks;
+    private int failedChunks;
+    private long retagged;
+    private long unchanged;
+
+    // Why the first failed chunk failed
+    @Column(length = 1000)
+    private String error;
+
+    private Long createdBy;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant finishedAt;
+
+    // The instance working on the job, until leaseUntil; another one takes over once that has passed
+    @JsonIgnore
+    @Column(length = 36)
+    private String owner;
+
+    @JsonIgnore
+    private Instant leaseUntil;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    public ItemFilter getFilter() {
+        ItemFilter filter = new ItemFilter();
+        filter.setDepartment(filterDepartment);
+        filter.setType(filterType);
+        filter.setStatus(filterStatus);
+        filter.setLocation(filterLocation);
+        return filter;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.backend.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+// The items of a retag job with ids in [firstId, lastId], committed together
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "retag_job_chunks", indexes = {
+        @Index(name = "idx_retag_job_chunks_job_id_state", columnList = "jobId, state")
+})
+public class RetagJobChunk {
+
+    public enum State {
+        pending, done, failed
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private long jobId;
+
+    @Column(nullable = false)
+    private long firstId;
+
+    @Column(nullable = false)
+    private long lastId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private State state;
+
+    @Column(length = 1000)
+    private String error;
+}
@@ -1,24 +1,37 @@
 package com.example.backend.model;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 
+// Stored as the two-letter code; the JSON contract keeps the display name (see Type)
 @Converter(autoApply = true)
 public class TypeConverter implements AttributeConverter<Type, String> {
 
+    // Display names are still accepted for rows not yet rewritten by ItemCodeBackfill
+    private static final Map<String, Type> BY_COLUMN = new HashMap<>();
+
+    static {
+        for (Type type : Type.values()) {
+            BY_COLUMN.put(type.getDisplayName(), type);
+            BY_COLUMN.put(type.getCode(), type);
+        }
+    }
+
     @Override
     public String convertToDatabaseColumn(Type attribute) {
-        return attribute != null ? attribute.getDisplayName() : null;
+        return attribute != null ? attribute.getCode() : null;
     }
 
     @Override
     public Type convertToEntityAttribute(String dbData) {
         if (dbData == null) return null;
-        for (Type type : Type.values()) {
-            if (type.getDisplayName().equals(dbData)) {
-                return type;
-            }
+        Type type = BY_COLUMN.get(dbData);
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown type: " + dbData);
         }
-        throw new IllegalArgumentException("Unknown type: " + dbData);
+        return type;
     }
-}
\ No newline at end of file
+}
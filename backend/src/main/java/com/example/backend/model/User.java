@@ -6,12 +6,24 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @Entity
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
+// Second-level cached (regions configured in EntityCacheConfig); email lookups go through the natural-id cache
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache
 @Table(name = "users")
 public class User {
     
@@ -23,6 +35,7 @@ public class User {
 
     @Email(message = "Email must be a well-formed email address")
     @NotBlank(message = "Email is required")
+    @NaturalId(mutable = true)
     @Column(unique = true, nullable = false)
     private String email;
 
@@ -33,4 +46,16 @@ public class User {
 
     @Enumerated(EnumType.STRING)
     private Role role;
+
+    // Bumped on every update; exposed as the ETag (see EntityTags)
+    @Version
+    @ColumnDefault("0")
+    @JsonProperty(access = Access.READ_ONLY)
+    private long version;
+
+    @UpdateTimestamp
+    @ColumnDefault("current_timestamp(6)")
+    @Column(nullable = false)
+    @JsonProperty(access = Access.READ_ONLY)
+    private Instant updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.example.backend.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.model.AssetTagSequence;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface AssetTagSequenceRepository extends JpaRepository<AssetTagSequence, String> {
+
+    // SELECT ... FOR UPDATE: instances reserving blocks of the same series queue on the row lock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AssetTagSequence s where s.seriesKey = :seriesKey")
+    Optional<AssetTagSequence> findForUpdate(@Param("seriesKey") String seriesKey);
+
+    // A plain INSERT, so it fails if another instance created the row first (save() would merge into that row)
+    @Modifying
+    @Query(value = "insert into asset_tag_sequences (series_key, next_value) values (:seriesKey, :nextValue)", nativeQuery = true)
+    void insert(@Param("seriesKey") String seriesKey, @Param("nextValue") long nextValue);
+}
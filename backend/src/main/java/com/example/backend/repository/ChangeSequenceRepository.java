@@ -0,0 +1,22 @@
+package com.example.backend.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.model.ChangeSequence;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface ChangeSequenceRepository extends JpaRepository<ChangeSequence, String> {
+
+    // SELECT ... FOR UPDATE: the row lock is held until the caller's transaction ends
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ChangeSequence s where s.name = :name")
+    Optional<ChangeSequence> findForUpdate(@Param("name") String name);
+}
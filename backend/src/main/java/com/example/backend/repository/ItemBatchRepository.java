@@ -0,0 +1,12 @@
+package com.example.backend.repository;
+
+import java.util.List;
+
+import com.example.backend.model.Item;
+
+// Plain-JDBC batch writes for bulk paths where per-entity IDENTITY inserts are too slow
+public interface ItemBatchRepository {
+
+    // Multi-row insert of fully tagged items; assigns the generated ids back onto the items in order
+    void insertBatch(List<Item> items);
+}
@@ -0,0 +1,64 @@
+package com.example.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import com.example.backend.model.DepartmentConverter;
+import com.example.backend.model.Item;
+import com.example.backend.model.TypeConverter;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ItemBatchRepositoryImpl implements ItemBatchRepository {
+
+    private static final String INSERT_SQL = "insert into items "
+            + "(assigning_department, asset_tag, type, sub_type, serial, model, status, default_location, change_seq) "
+            + "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final DepartmentConverter DEPARTMENT_CONVERTER = new DepartmentConverter();
+    private static final TypeConverter TYPE_CONVERTER = new TypeConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertBatch(List<Item> items) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Item item = items.get(i);
+                        ps.setString(1, DEPARTMENT_CONVERTER.convertToDatabaseColumn(item.getAssigningDepartment()));
+                        ps.setString(2, item.getAssetTag());
+                        ps.setString(3, TYPE_CONVERTER.convertToDatabaseColumn(item.getType()));
+                        ps.setString(4, item.getSubType());
+                        ps.setString(5, item.getSerial());
+                        ps.setString(6, item.getModel());
+                        ps.setString(7, item.getStatus());
+                        ps.setString(8, item.getDefaultLocation());
+                        ps.setLong(9, item.getChangeSeq());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return items.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).setId(((Number) keys.get(i).values().iterator().next()).longValue());
+        }
+    }
+}
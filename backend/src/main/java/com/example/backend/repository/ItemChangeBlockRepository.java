@@ -0,0 +1,32 @@
+package com.example.backend.repository;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.model.ItemChangeBlock;
+
+@Repository
+public interface ItemChangeBlockRepository extends JpaRepository<ItemChangeBlock, Long> {
+
+    @Query("select min(b.safeThrough) from ItemChangeBlock b")
+    Long findMinSafeThrough();
+
+    // 0 if the block's lease had run out and its row was expired
+    @Modifying
+    @Query("update ItemChangeBlock b set b.safeThrough = :safeThrough, b.leasedUntil = :leasedUntil where b.blockStart = :blockStart")
+    int renew(@Param("blockStart") long blockStart, @Param("safeThrough") long safeThrough,
+            @Param("leasedUntil") Instant leasedUntil);
+
+    @Modifying
+    @Query("delete from ItemChangeBlock b where b.blockStart = :blockStart")
+    int deleteByBlockStart(@Param("blockStart") long blockStart);
+
+    @Modifying
+    @Query("delete from ItemChangeBlock b where b.leasedUntil < :now")
+    int deleteLeasedBefore(@Param("now") Instant now);
+}
@@ -0,0 +1,25 @@
+package com.example.backend.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.example.backend.model.ItemHistoryEntry;
+
+// Plain-JDBC batch writes for the history writer, which appends many small rows at a time
+public interface ItemHistoryBatchRepository {
+
+    // Appends all entries with one batched INSERT; their ids are not read back
+    void appendBatch(List<ItemHistoryEntry> entries);
+
+    // Records the entries' changes as pending in item_history_pending; runs in the item write's transaction
+    void markPending(List<ItemHistoryEntry> entries);
+
+    // Deletes the entries' pending rows, and any gap recorded for them in the meantime
+    void clearPending(List<ItemHistoryEntry> entries);
+
+    // Changes pending since before cutoff, oldest first, as gap entries (changes UNRECORDED)
+    List<ItemHistoryEntry> findPendingBefore(Instant cutoff, int limit);
+
+    // 0 if the change's pending row is already gone
+    int deletePending(long itemId, long changeSeq);
+}
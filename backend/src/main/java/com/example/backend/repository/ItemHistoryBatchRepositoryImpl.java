@@ -0,0 +1,101 @@
+package com.example.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.backend.event.ItemChangeEvent;
+import com.example.backend.model.ItemHistoryEntry;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ItemHistoryBatchRepositoryImpl implements ItemHistoryBatchRepository {
+
+    private static final String INSERT_SQL = "insert into item_history "
+            + "(item_id, change_seq, kind, user_id, changed_at, changes) values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PENDING_SQL = "insert into item_history_pending "
+            + "(item_id, change_seq, kind, user_id, changed_at) values (?, ?, ?, ?, ?)";
+    private static final String DELETE_PENDING_SQL = "delete from item_history_pending where item_id = ? and change_seq = ?";
+    private static final String DELETE_GAP_SQL = "delete from item_history where item_id = ? and change_seq = ? and changes = ?";
+    private static final String SELECT_PENDING_SQL = "select item_id, change_seq, kind, user_id, changed_at"
+            + " from item_history_pending where changed_at < ? order by changed_at limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void appendBatch(List<ItemHistoryEntry> entries) {
+        batch(INSERT_SQL, entries, true);
+    }
+
+    @Override
+    public void markPending(List<ItemHistoryEntry> entries) {
+        batch(INSERT_PENDING_SQL, entries, false);
+    }
+
+    @Override
+    public void clearPending(List<ItemHistoryEntry> entries) {
+        // The pending rows first: a recovery of the same change waits on their locks, then finds them gone
+        jdbcTemplate.batchUpdate(DELETE_PENDING_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getItemId());
+            ps.setLong(2, entry.getChangeSeq());
+        });
+        jdbcTemplate.batchUpdate(DELETE_GAP_SQL, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.getItemId());
+            ps.setLong(2, entry.getChangeSeq());
+            ps.setString(3, ItemHistoryEntry.UNRECORDED);
+        });
+    }
+
+    @Override
+    public List<ItemHistoryEntry> findPendingBefore(Instant cutoff, int limit) {
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        return jdbcTemplate.query(SELECT_PENDING_SQL, ps -> {
+            ps.setTimestamp(1, Timestamp.from(cutoff), utc);
+            ps.setInt(2, limit);
+        }, (rs, rowNum) -> new ItemHistoryEntry(null, rs.getLong("item_id"), rs.getLong("change_seq"),
+                ItemChangeEvent.Kind.valueOf(rs.getString("kind")), rs.getObject("user_id", Long.class),
+                rs.getTimestamp("changed_at", utc).toInstant(), ItemHistoryEntry.UNRECORDED));
+    }
+
+    @Override
+    public int deletePending(long itemId, long changeSeq) {
+        return jdbcTemplate.update(DELETE_PENDING_SQL, itemId, changeSeq);
+    }
+
+    private void batch(String sql, List<ItemHistoryEntry> entries, boolean withChanges) {
+        // Written in UTC, as Hibernate writes Instant columns
+        Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ItemHistoryEntry entry = entries.get(i);
+                ps.setLong(1, entry.getItemId());
+                ps.setLong(2, entry.getChangeSeq());
+                ps.setString(3, entry.getKind().name());
+                if (entry.getUserId() != null) {
+                    ps.setLong(4, entry.getUserId());
+                } else {
+                    ps.setNull(4, Types.BIGINT);
+                }
+                ps.setTimestamp(5, Timestamp.from(entry.getChangedAt()), utc);
+                if (withChanges) {
+                    ps.setString(6, entry.getChanges());
+                }
+            }
+
+            @Override
+            public int getBatchSize() {
+                return entries.size();
+            }
+        });
+    }
+}
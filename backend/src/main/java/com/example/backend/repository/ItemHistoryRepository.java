@@ -0,0 +1,22 @@
+package com.example.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.model.ItemHistoryEntry;
+
+@Repository
+public interface ItemHistoryRepository extends JpaRepository<ItemHistoryEntry, Long>, ItemHistoryBatchRepository {
+
+    // Newest first, resuming strictly before the (changeSeq, id) of the previous page's last entry
+    @Query("select h from ItemHistoryEntry h where h.itemId = :itemId"
+            + " and (h.changeSeq < :beforeSeq or (h.changeSeq = :beforeSeq and h.id < :beforeId))"
+            + " order by h.changeSeq desc, h.id desc")
+    List<ItemHistoryEntry> findPage(@Param("itemId") long itemId, @Param("beforeSeq") long beforeSeq,
+            @Param("beforeId") long beforeId, Limit limit);
+}
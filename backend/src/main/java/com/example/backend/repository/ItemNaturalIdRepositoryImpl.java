@@ -0,0 +1,21 @@
+package com.example.backend.repository;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+
+import com.example.backend.model.Item;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class ItemNaturalIdRepositoryImpl implements ItemNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Item> findByAssetTag(String assetTag) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Item.class).loadOptional(assetTag);
+    }
+}
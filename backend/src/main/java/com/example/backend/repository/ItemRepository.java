@@ -1,13 +1,114 @@
 package com.example.backend.repository;
 
+import com.example.backend.model.Department;
 import com.example.backend.model.Item;
+import com.example.backend.model.Type;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface ItemRepository extends JpaRepository<Item, Long> {
-    Optional<Item> findByAssetTag(String assetTag);
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemBatchRepository, ItemStreamRepository, ItemNaturalIdRepository {
+
+    // Optional equality filters (see ItemFilter); a null parameter matches every row
+    String FILTER = "(:department is null or i.assigningDepartment = :department)"
+            + " and (:type is null or i.type = :type)"
+            + " and (:status is null or i.status = :status)"
+            + " and (:location is null or i.defaultLocation = :location)";
+
+    interface GroupCount {
+        Department getAssigningDepartment();
+        Type getType();
+        String getStatus();
+        String getDefaultLocation();
+        long getCount();
+    }
+
+    // One row per distinct (department, type, status, location); everything ItemStatsCounters needs
+    @Query("select i.assigningDepartment as assigningDepartment, i.type as type, i.status as status,"
+            + " i.defaultLocation as defaultLocation, count(i) as count from Item i"
+            + " group by i.assigningDepartment, i.type, i.status, i.defaultLocation")
+    List<GroupCount> countGroups();
+
+    interface IdVersion {
+        Long getId();
+        long getVersion();
+    }
+
+    @Query("select i.id as id, i.version as version from Item i where i.id in :ids")
+    List<IdVersion> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface TagId {
+        Long getId();
+        String getAssetTag();
+    }
+
+    // Every (id, assetTag) pair, for building ItemTagIndex
+    @Query("select i.id as id, i.assetTag as assetTag from Item i where i.assetTag is not null")
+    List<TagId> findAllTagIds();
+
+    // Labels need only the tag; ordered by id so a sheet prints in creation order
+    @Query("select i.id as id, i.assetTag as assetTag from Item i where i.id in :ids and i.assetTag is not null order by i.id")
+    List<TagId> findTagIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select i.id as id, i.assetTag as assetTag from Item i where " + FILTER + " and i.assetTag is not null order by i.id")
+    List<TagId> findTagIds(
+            @Param("department") Department department, @Param("type") Type type,
+            @Param("status") String status, @Param("location") String location, Limit limit);
+
+    // Retag jobs: the ids a job covers when it starts, then one id range (a chunk) at a time
+    @Query("select i.id from Item i where " + FILTER + " order by i.id")
+    List<Long> findIds(
+            @Param("department") Department department, @Param("type") Type type,
+            @Param("status") String status, @Param("location") String location);
+
+    @Query("select i from Item i where " + FILTER + " and i.id between :firstId and :lastId order by i.id")
+    List<Item> findInRange(
+            @Param("department") Department department, @Param("type") Type type,
+            @Param("status") String status, @Param("location") String location,
+            @Param("firstId") long firstId, @Param("lastId") long lastId);
+
+    // Used once per series to seed its sequence above any pre-existing tags
+    @Query("select i.assetTag from Item i where i.assetTag like concat(:prefix, '%')")
+    List<String> findAssetTagsWithPrefix(@Param("prefix") String prefix);
+
+    // Delta sync: rows written after the (changeSeq, id) position and up to throughSeq, in change number order
+    @Query("select i from Item i where (i.changeSeq > :afterSeq or (i.changeSeq = :afterSeq and i.id > :afterId))"
+            + " and i.changeSeq <= :throughSeq order by i.changeSeq, i.id")
+    List<Item> findChangedAfter(@Param("afterSeq") long afterSeq, @Param("afterId") long afterId,
+            @Param("throughSeq") long throughSeq, Limit limit);
+
+    // Keyset (seek) pages: each query resumes strictly after the (value, id) of the previous page's last row
+    @Query("select i from Item i where " + FILTER + " and i.id > :afterId order by i.id")
+    List<Item> findPageOrderById(
+            @Param("department") Department department, @Param("type") Type type,
+            @Param("status") String status, @Param("location") String location,
+            @Param("afterId") long afterId, Limit limit);
+
+    @Query("select i from Item i where " + FILTER
+            + " and (i.assetTag > :after or (i.assetTag = :after and i.id > :afterId)) order by i.assetTag, i.id")
+    List<Item> findPageOrderByAssetTag(
+            @Param("department") Department department, @Param("type") Type type,
+            @Param("status") String status, @Param("location") String location,
+            @Param("after") String after, @Param("afterId") long afterId, Limit limit);
+
+    @Query("select i from Item i where " + FILTER
+            + " and (i.model > :after or (i.model = :after and i.id > :afterId)) order by i.model, i.id")
+    List<Item> findPageOrderByModel(
+            @Param("department") Department department, @Param("type") Type type,
+            @Param("status") String status, @Param("location") String location,
+            @Param("after") String after, @Param("afterId") long afterId, Limit limit);
+
+    @Query("select i from Item i where " + FILTER
+            + " and (i.status > :after or (i.status = :after and i.id > :afterId)) order by i.status, i.id")
+    List<Item> findPageOrderByStatus(
+            @Param("department") Department department, @Param("type") Type type,
+            @Param("status") String status, @Param("location") String location,
+            @Param("after") String after, @Param("afterId") long afterId, Limit limit);
 }
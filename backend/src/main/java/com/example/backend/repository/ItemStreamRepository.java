@@ -0,0 +1,14 @@
+package com.example.backend.repository;
+
+import java.util.stream.Stream;
+
+import com.example.backend.model.Department;
+import com.example.backend.model.Item;
+import com.example.backend.model.Type;
+
+// Forward-only, read-only cursor over the items table for exports and index rebuilds
+public interface ItemStreamRepository {
+
+    // Same optional filters as ItemRepository.FILTER, ordered by id; close the stream when done
+    Stream<Item> streamAll(Department department, Type type, String status, String location);
+}
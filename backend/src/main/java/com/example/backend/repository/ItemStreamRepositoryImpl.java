@@ -0,0 +1,39 @@
+package com.example.backend.repository;
+
+import java.util.stream.Stream;
+
+import org.hibernate.CacheMode;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+
+import com.example.backend.model.Department;
+import com.example.backend.model.Item;
+import com.example.backend.model.Type;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class ItemStreamRepositoryImpl implements ItemStreamRepository {
+
+    // Integer.MIN_VALUE makes Connector/J stream rows instead of buffering the result set;
+    // drivers that reject a negative fetch size (H2 in the perf tests) set a positive one
+    @Value("${items.stream-fetch-size:" + Integer.MIN_VALUE + "}")
+    private int fetchSize;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Stream<Item> streamAll(Department department, Type type, String status, String location) {
+        return entityManager.createQuery("select i from Item i where " + ItemRepository.FILTER + " order by i.id", Item.class)
+                .setParameter("department", department)
+                .setParameter("type", type)
+                .setParameter("status", status)
+                .setParameter("location", location)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                // A full pass would otherwise evict every hot entry from the second-level cache
+                .setHint(HibernateHints.HINT_CACHE_MODE, CacheMode.IGNORE)
+                .getResultStream();
+    }
+}
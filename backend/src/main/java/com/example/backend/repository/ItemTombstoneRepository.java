@@ -0,0 +1,30 @@
+package com.example.backend.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.model.ItemTombstone;
+
+@Repository
+public interface ItemTombstoneRepository extends JpaRepository<ItemTombstone, Long> {
+
+    // Same (changeSeq, id) keyset as ItemRepository.findChangedAfter
+    @Query("select t from ItemTombstone t where (t.changeSeq > :afterSeq or (t.changeSeq = :afterSeq and t.id > :afterId))"
+            + " and t.changeSeq <= :throughSeq order by t.changeSeq, t.id")
+    List<ItemTombstone> findChangedAfter(@Param("afterSeq") long afterSeq, @Param("afterId") long afterId,
+            @Param("throughSeq") long throughSeq, Limit limit);
+
+    @Query("select max(t.changeSeq) from ItemTombstone t where t.deletedAt < :cutoff")
+    Long findMaxChangeSeqDeletedBefore(@Param("cutoff") Instant cutoff);
+
+    @Modifying
+    @Query("delete from ItemTombstone t where t.changeSeq <= :changeSeq")
+    int deleteThrough(@Param("changeSeq") long changeSeq);
+}
@@ -0,0 +1,23 @@
+package com.example.backend.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.model.RetagJobChunk;
+
+@Repository
+public interface RetagJobChunkRepository extends JpaRepository<RetagJobChunk, Long> {
+
+    List<RetagJobChunk> findByJobIdAndStateOrderById(long jobId, RetagJobChunk.State state);
+
+    // Moves a pending chunk to done or failed; 0 if it had already left pending (another instance got there first)
+    @Modifying
+    @Query("update RetagJobChunk c set c.state = :state, c.error = :error where c.id = :id and c.state = :pending")
+    int finish(@Param("id") long id, @Param("state") RetagJobChunk.State state, @Param("error") String error,
+            @Param("pending") RetagJobChunk.State pending);
+}
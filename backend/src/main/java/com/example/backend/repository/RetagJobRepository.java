@@ -0,0 +1,46 @@
+package com.example.backend.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.backend.model.RetagJob;
+
+@Repository
+public interface RetagJobRepository extends JpaRepository<RetagJob, Long> {
+
+    // Running jobs nobody holds: never claimed, released at shutdown, or their owner stopped renewing
+    @Query("select j.id from RetagJob j where j.state = :state and (j.owner is null or j.leaseUntil < :now)")
+    List<Long> findUnclaimed(@Param("state") RetagJob.State state, @Param("now") Instant now);
+
+    // Compare-and-set: 1 if the caller now owns the job
+    @Modifying
+    @Query("update RetagJob j set j.owner = :owner, j.leaseUntil = :leaseUntil"
+            + " where j.id = :id and j.state = :state and (j.owner is null or j.leaseUntil < :now)")
+    int claim(@Param("id") long id, @Param("state") RetagJob.State state, @Param("owner") String owner,
+            @Param("now") Instant now, @Param("leaseUntil") Instant leaseUntil);
+
+    // 0 if the caller no longer owns the job
+    @Modifying
+    @Query("update RetagJob j set j.leaseUntil = :leaseUntil where j.id = :id and j.owner = :owner")
+    int renew(@Param("id") long id, @Param("owner") String owner, @Param("leaseUntil") Instant leaseUntil);
+
+    @Modifying
+    @Query("update RetagJob j set j.owner = null, j.leaseUntil = null where j.owner = :owner")
+    int releaseAll(@Param("owner") String owner);
+
+    // Counters are incremented in place, since chunks of one job commit in parallel
+    @Modifying
+    @Query("update RetagJob j set j.completedChunks = j.completedChunks + 1, j.retagged = j.retagged + :retagged,"
+            + " j.unchanged = j.unchanged + :unchanged where j.id = :id")
+    int recordCompletedChunk(@Param("id") long id, @Param("retagged") long retagged, @Param("unchanged") long unchanged);
+
+    @Modifying
+    @Query("update RetagJob j set j.failedChunks = j.failedChunks + 1, j.error = coalesce(j.error, :error) where j.id = :id")
+    int recordFailedChunk(@Param("id") long id, @Param("error") String error);
+}
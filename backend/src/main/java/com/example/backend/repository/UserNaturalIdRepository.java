@@ -0,0 +1,14 @@
+package com.example.backend.repository;
+
+import java.util.Optional;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.model.User;
+
+// email lookups through Hibernate's natural-id API, so repeat lookups are served from the second-level cache
+public interface UserNaturalIdRepository {
+
+    @Transactional(readOnly = true)
+    Optional<User> findByEmail(String email);
+}
@@ -0,0 +1,24 @@
+package com.example.backend.repository;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+
+import com.example.backend.model.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        // The email column compares case-insensitively but cache keys don't: a cached mapping for another
+        // spelling can outlive an email change, so only accept a user whose current email still matches
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(User.class).loadOptional(email)
+                .filter(user -> user.getEmail().equalsIgnoreCase(email));
+    }
+}
@@ -1,11 +1,21 @@
 package com.example.backend.repository;
 
 import com.example.backend.model.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserNaturalIdRepository {
     Optional<User> findByEmailAndPassword(String email, String password);
-}
 
+    // Keyset (seek) pages, see ItemRepository
+    @Query("select u from User u where u.id > :afterId order by u.id")
+    List<User> findPageOrderById(@Param("afterId") long afterId, Limit limit);
+
+    @Query("select u from User u where u.email > :after or (u.email = :after and u.id > :afterId) order by u.email, u.id")
+    List<User> findPageOrderByEmail(@Param("after") String after, @Param("afterId") long afterId, Limit limit);
+}
@@ -0,0 +1,23 @@
+package com.example.backend.security;
+
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+// Id of the user the current request's token belongs to (the "userId" JwtAuthenticationFilter puts in the details)
+public final class CurrentUser {
+
+    private CurrentUser() {
+    }
+
+    // null outside an authenticated request, e.g. on a background thread
+    public static Long id() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof Map<?, ?> details
+                && details.get("userId") instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+}
@@ -4,11 +4,12 @@ import com.example.backend.exception.ErrorResponse;
 import com.example.backend.exception.InvalidJwtException;
 import com.example.backend.model.Role;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -22,15 +23,27 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final ObjectMapper objectMapper; // Inject ObjectMapper to serialize JSON
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        // Built once: this runs on every authenticated request
+        this.validTimer = Timer.builder("auth.jwt.verify").tag("outcome", "valid")
+                .publishPercentileHistogram().register(meterRegistry);
+        this.invalidTimer = Timer.builder("auth.jwt.verify").tag("outcome", "invalid")
+                .publishPercentileHistogram().register(meterRegistry);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -44,14 +57,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         final String token = authHeader.substring(7);
         try {
-            if (!jwtUtil.isTokenValid(token)) { // This will throw InvalidJwtException if invalid
-                chain.doFilter(request, response);
-                return;
-            }
+            // Single verification; throws InvalidJwtException if invalid or expired
+            JwtClaims claims = verify(token);
 
-            String email = jwtUtil.extractEmail(token);
-            Role role = jwtUtil.extractRole(token);
-            Long userId = jwtUtil.extractId(token);
+            String email = claims.getEmail();
+            Role role = claims.getRole();
+            Long userId = claims.getId();
             String authority = "ROLE_" + role.name().toUpperCase();
             List<SimpleGrantedAuthority> authorities = Collections.singletonList(new SimpleGrantedAuthority(authority));
 
@@ -61,6 +72,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             Map<String, Object> details = new HashMap<>();
             details.put("webDetails", new WebAuthenticationDetailsSource().buildDetails(request));
             details.put("userId", userId);
+            details.put("expiresAt", claims.getExpiresAtMillis()); // long-lived responses (event streams) end here
             authToken.setDetails(details);
 
             SecurityContextHolder.getContext().setAuthentication(authToken);
@@ -73,4 +85,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             objectMapper.writeValue(response.getWriter(), errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    private JwtClaims verify(String token) {
+        long start = System.nanoTime();
+        Timer timer = invalidTimer;
+        try {
+            JwtClaims claims = jwtUtil.verify(token);
+            timer = validTimer;
+            return claims;
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+}
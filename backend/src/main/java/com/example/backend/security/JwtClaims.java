@@ -0,0 +1,21 @@
+package com.example.backend.security;
+
+import com.example.backend.model.Role;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Claims of a token whose signature and expiry have already been verified
+@Getter
+@AllArgsConstructor
+public class JwtClaims {
+    private Long id;
+    private String name;
+    private String email;
+    private Role role;
+    private long expiresAtMillis;
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.backend.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+
 import org.springframework.stereotype.Component;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -13,16 +17,29 @@ import com.example.backend.model.Role;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class JwtUtil {
     @Value("${jwt.secret}")
     private String secretKey;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    // Upper bound on remembered verified tokens; entries also drop out at their exp
+    @Value("${jwt.cache-max-entries:10000}")
+    private int cacheMaxEntries;
+
+    // Derived once: building the HMAC key and parser per call was most of the per-request cost
+    private Key signingKey;
+    private JwtParser parser;
+
+    private final Map<String, JwtClaims> verified = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
     }
 
     // Generate JWT with ID, Name, Email, and Role
@@ -37,57 +54,79 @@ public class JwtUtil {
                 .setIssuedAt(new Date())
                  .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60)) // 1 hour expiry
                 // .setExpiration(new Date(System.currentTimeMillis() + 1000 * 60)) // For testing only: 1 minute expiry
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    /**
+     * Verifies the token once and returns its claims. A token that already passed
+     * verification is answered from the cache (no HMAC) until its own expiry.
+     */
+    public JwtClaims verify(String token) {
+        long now = System.currentTimeMillis();
+        JwtClaims cached = verified.get(token);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verified.remove(token);
+            throw new InvalidJwtException("Session expired. Please login again.");
+        }
+
+        JwtClaims claims;
+        try {
+            Claims body = parser.parseClaimsJws(token).getBody();
+            claims = new JwtClaims(
+                    Long.valueOf(body.get("id").toString()),
+                    body.get("name").toString(),
+                    body.get("email").toString(),
+                    Role.valueOf(body.get("role").toString()),
+                    body.getExpiration().getTime());
+        } catch (ExpiredJwtException e) {
+            throw new InvalidJwtException("Session expired. Please login again.", e);
+        } catch (Exception e) {
+            throw new InvalidJwtException("Invalid session. Please login again.", e);
+        }
+
+        remember(token, claims, now);
+        return claims;
+    }
+
+    private void remember(String token, JwtClaims claims, long now) {
+        if (verified.size() >= cacheMaxEntries) {
+            verified.values().removeIf(c -> c.isExpired(now));
+            // Still mostly live tokens: drop an arbitrary tenth so the sweep is not repeated on every insert
+            Iterator<String> it = verified.keySet().iterator();
+            while (verified.size() > cacheMaxEntries * 9 / 10 && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        verified.put(token, claims);
+    }
+
     // Extract Email (used as subject)
     public String extractEmail(String token) {
-        return extractClaim(token, claims -> claims.get("email").toString());
+        return verify(token).getEmail();
     }
 
     // Extract ID
     public Long extractId(String token) {
-        return Long.valueOf(extractClaim(token, claims -> claims.get("id").toString()));
+        return verify(token).getId();
     }
 
     // Extract Name
     public String extractName(String token) {
-        return extractClaim(token, claims -> claims.get("name").toString());
+        return verify(token).getName();
     }
 
     // Extract Role
     public Role extractRole(String token) {
-        return Role.valueOf(extractClaim(token, claims -> claims.get("role").toString()));
-    }
-
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return verify(token).getRole();
     }
 
     public boolean isTokenValid(String token) {
-        try {
-            Claims claims = extractAllClaims(token);
-            Date expiration = claims.getExpiration();
-            if (expiration.before(new Date())) {
-                throw new InvalidJwtException("Session expired. Please login again.");
-            }
-            return true;
-        } catch (Exception e) {
-            throw new InvalidJwtException("Invalid session. Please login again.");
-        }
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        verify(token); // throws InvalidJwtException if invalid or expired
+        return true;
     }
-}
\ No newline at end of file
+}
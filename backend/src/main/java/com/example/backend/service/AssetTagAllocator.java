@@ -0,0 +1,146 @@
+package com.example.backend.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.config.AssetTagProperties;
+import com.example.backend.model.AssetTagSequence;
+import com.example.backend.model.Department;
+import com.example.backend.model.Type;
+import com.example.backend.repository.AssetTagSequenceRepository;
+import com.example.backend.repository.ItemRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Hands out asset tag sequence numbers per (department, YYMM, type) series, hi-lo style.
+ *
+ * The asset_tag_sequences row of a series holds the first number no instance has reserved
+ * yet. An instance reserves asset-tags.block-size numbers at a time under a row lock, in its
+ * own short transaction, and serves them from memory; numbers of a block that is still open
+ * when the instance stops are never used. Tags are therefore unique across instances but not
+ * gap-free. Callers must allocate before opening their write transaction (this is checked):
+ * a reservation inside one would hold one pooled connection while waiting for a second,
+ * and enough concurrent writers doing that exhaust the pool with nobody able to proceed.
+ */
+@Component
+public class AssetTagAllocator {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final AssetTagSequenceRepository sequenceRepository;
+    private final ItemRepository itemRepository;
+    private final AssetTagProperties assetTagProperties;
+    private final TransactionTemplate reserveTransaction;
+    private final Timer allocateTimer;
+    private final Timer reserveTimer;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public AssetTagAllocator(AssetTagSequenceRepository sequenceRepository, ItemRepository itemRepository,
+            AssetTagProperties assetTagProperties, PlatformTransactionManager transactionManager, MeterRegistry registry) {
+        this.sequenceRepository = sequenceRepository;
+        this.itemRepository = itemRepository;
+        this.assetTagProperties = assetTagProperties;
+        this.reserveTransaction = new TransactionTemplate(transactionManager);
+        this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // allocate covers every tag handed out; reserve only the database round trips behind it
+        this.allocateTimer = Timer.builder("asset.tag.allocate").publishPercentileHistogram().register(registry);
+        this.reserveTimer = Timer.builder("asset.tag.reserve").publishPercentileHistogram().register(registry);
+    }
+
+    // Lock rather than synchronized: a reservation blocks on the database and must not pin a virtual thread
+    private static final class Block {
+        final ReentrantLock lock = new ReentrantLock();
+        long next;
+        long end;
+    }
+
+    public String allocate(Department department, String yyMM, Type type, String subType) {
+        return AssetTags.format(department, yyMM, type, subType, next(AssetTags.seriesKey(department, yyMM, type)));
+    }
+
+    public long next(String seriesKey) {
+        long start = System.nanoTime();
+        try {
+            return nextInBlock(seriesKey);
+        } finally {
+            allocateTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private long nextInBlock(String seriesKey) {
+        Block block = blocks.computeIfAbsent(seriesKey, key -> new Block());
+        block.lock.lock();
+        try {
+            if (block.next == block.end) {
+                int blockSize = assetTagProperties.getBlockSize();
+                block.next = reserve(seriesKey, blockSize);
+                block.end = block.next + blockSize;
+            }
+            return block.next++;
+        } finally {
+            block.lock.unlock();
+        }
+    }
+
+    // First of count consecutive numbers reserved straight from the database, for bulk writes
+    public long reserve(String seriesKey, int count) {
+        long start = System.nanoTime();
+        try {
+            return reserveWithRetry(seriesKey, count);
+        } finally {
+            reserveTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private long reserveWithRetry(String seriesKey, int count) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Asset tag numbers must be reserved before the write transaction opens");
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return reserveTransaction.execute(status -> {
+                    AssetTagSequence sequence = sequenceRepository.findForUpdate(seriesKey).orElse(null);
+                    if (sequence == null) {
+                        long start = firstFreeSequence(seriesKey);
+                        sequenceRepository.insert(seriesKey, start + count);
+                        return start;
+                    }
+                    long start = sequence.getNextValue();
+                    sequence.setNextValue(start + count);
+                    return start;
+                });
+            } catch (DataIntegrityViolationException | PessimisticLockingFailureException e) {
+                // Another instance created the series row at the same time; it exists now, so lock it on retry
+                if (attempt == MAX_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // Series started before the allocator existed carry item ids as suffixes; continue above the highest
+    private long firstFreeSequence(String seriesKey) {
+        return itemRepository.findAssetTagsWithPrefix(AssetTags.seriesPrefix(seriesKey)).stream()
+                .mapToLong(tag -> {
+                    try {
+                        return AssetTags.sequenceOf(tag);
+                    } catch (IllegalArgumentException e) {
+                        return 0L;
+                    }
+                })
+                .max().orElse(0L) + 1;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.backend.service;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+
+import com.example.backend.model.Department;
+import com.example.backend.model.Type;
+
+// Asset tag format shared by single-item writes and bulk import: CMX-<dept>-<YYMM>-<type>-<SUBTYPE>-<sequence>
+public final class AssetTags {
+
+    private AssetTags() {
+    }
+
+    // Generate YYMM from current date
+    public static String currentYearMonth() {
+        YearMonth currentYearMonth = YearMonth.now(ZoneId.of("UTC"));
+        return String.format("%02d%02d",
+                currentYearMonth.getYear() % 100,
+                currentYearMonth.getMonthValue());
+    }
+
+    public static String format(Department department, String yyMM, Type type, String subType, long sequence) {
+        return String.format("CMX-%s-%s-%s-%s-%04d",
+                department.getCode(), yyMM, type.getCode(), subType.toUpperCase(), sequence);
+    }
+
+    // Sequence numbers are unique within a series, whatever the subType
+    public static String seriesKey(Department department, String yyMM, Type type) {
+        return department.getCode() + "-" + yyMM + "-" + type.getCode();
+    }
+
+    // Every tag of a series starts with this, whatever its subType
+    public static String seriesPrefix(String seriesKey) {
+        return "CMX-" + seriesKey + "-";
+    }
+
+    public static String yearMonthOf(String assetTag) {
+        return parts(assetTag)[2];
+    }
+
+    public static long sequenceOf(String assetTag) {
+        String[] parts = parts(assetTag);
+        return Long.parseLong(parts[parts.length - 1]);
+    }
+
+    private static String[] parts(String assetTag) {
+        String[] parts = assetTag == null ? new String[0] : assetTag.split("-");
+        if (parts.length < 6 || !parts[parts.length - 1].chars().allMatch(Character::isDigit)) {
+            throw new IllegalArgumentException("Invalid assetTag format");
+        }
+        return parts;
+    }
+}
@@ -6,6 +6,7 @@ import com.example.backend.dto.RegisterRequest;
 import com.example.backend.exception.DuplicateEmailException;
 import com.example.backend.exception.InsufficientPrivilegesException;
 import com.example.backend.exception.InvalidLoginCredentialsException;
+import com.example.backend.exception.PasswordHashingBusyException;
 import com.example.backend.exception.SelfOperationException;
 import com.example.backend.exception.UserWithEmailNotFoundException;
 import com.example.backend.model.User;
@@ -14,9 +15,9 @@ import com.example.backend.security.JwtUtil;
 
 import java.util.Map;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import lombok.AllArgsConstructor;
 
@@ -26,6 +27,7 @@ public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final PasswordHashingService passwordHashingService;
 
     public User register(RegisterRequest request) {
         if (userRepository.findByEmail(request.getEmail()).isPresent()) {
@@ -35,7 +37,7 @@ public class AuthServiceImpl implements AuthService {
         User user = new User();
         user.setName(request.getName());
         user.setEmail(request.getEmail());
-        user.setPassword(new BCryptPasswordEncoder().encode(request.getPassword()));
+        user.setPassword(passwordHashingService.encode(request.getPassword()));
         user.setRole(request.getRole());
 
         userRepository.save(user);
@@ -47,10 +49,20 @@ public class AuthServiceImpl implements AuthService {
         
         User user = userRepository.findByEmail(request.getEmail()).orElseThrow(() -> new UserWithEmailNotFoundException());
 
-        if (!new BCryptPasswordEncoder().matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new InvalidLoginCredentialsException();
         }
 
+        // Transparently move the stored hash to the configured cost; a busy pool just defers it
+        if (passwordHashingService.needsRehash(user.getPassword())) {
+            try {
+                user.setPassword(passwordHashingService.encode(request.getPassword()));
+                userRepository.save(user);
+            } catch (PasswordHashingBusyException | OptimisticLockingFailureException e) {
+                // Try again on the next login
+            }
+        }
+
         // Generate JWT token
         String token = jwtUtil.generateToken(user.getId(), user.getName(), user.getEmail(), user.getRole());
 
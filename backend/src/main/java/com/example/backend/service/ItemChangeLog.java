@@ -0,0 +1,342 @@
+package com.example.backend.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.config.ItemChangesProperties;
+import com.example.backend.model.ChangeSequence;
+import com.example.backend.model.Item;
+import com.example.backend.model.ItemChangeBlock;
+import com.example.backend.model.ItemTombstone;
+import com.example.backend.repository.ChangeSequenceRepository;
+import com.example.backend.repository.ItemChangeBlockRepository;
+import com.example.backend.repository.ItemTombstoneRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Change numbers for item writes, and the tombstones deletes leave behind; together they
+ * back GET /api/items/changes.
+ *
+ * Numbers are handed out hi-lo style, as AssetTagAllocator does for tags: an instance
+ * reserves item-changes.block-size of them at a time, bumping the "items" row of
+ * change_sequences and recording the block in item_change_blocks in one short
+ * transaction, and a write takes its number from memory. The counter row is locked once
+ * per block rather than once per write, and writes commit in any order.
+ *
+ * A reader can therefore only trust the numbers below every one that may still commit.
+ * A block's row carries safe_through: every number of the block up to it has been
+ * committed or rolled back (numbers not handed out yet count as pending). publish()
+ * moves it forward every item-changes.publish-interval, off the write path, and
+ * safeThrough() is the lowest one, read in the reader's snapshot; delta sync never
+ * returns or moves a token past it, so a client resuming after n can't miss a change
+ * that commits later with a number below n. The feed lags the writes by about a publish
+ * interval. A block stops handing out numbers once it has been open that long and its
+ * row goes away when its last write finishes, so a quiet instance doesn't hold the
+ * watermark back with numbers it will never use.
+ *
+ * Rows are leased for item-changes.lease-duration and renewed on every publish. The row
+ * of an instance that died holds the watermark until expireAbandoned() deletes it; a
+ * write whose block lost its lease fails on commit instead of landing below the
+ * watermark.
+ *
+ * Tombstones older than item-changes.tombstone-retention are purged; tokens from before
+ * the purge are then rejected, since the deletions they would need are gone. A token
+ * from a full sync also remembers where that sync started: deletions from before then
+ * can't concern the client, so purging them doesn't invalidate it.
+ */
+@Slf4j
+@Component
+public class ItemChangeLog {
+
+    private static final String ITEMS = "items";
+    private static final String TOMBSTONES_PURGED = "item_tombstones_purged";
+
+    private final ChangeSequenceRepository changeSequenceRepository;
+    private final ItemChangeBlockRepository itemChangeBlockRepository;
+    private final ItemTombstoneRepository itemTombstoneRepository;
+    private final ItemChangesProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    // Guards the blocks; held only for in-memory work, never across a database call
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Block> held = new ArrayList<>(); // every block this instance has a row for
+    private Block open; // the block numbers are taken from; null until the next write reserves one
+
+    public ItemChangeLog(ChangeSequenceRepository changeSequenceRepository, ItemChangeBlockRepository itemChangeBlockRepository,
+            ItemTombstoneRepository itemTombstoneRepository, ItemChangesProperties properties,
+            TransactionTemplate transactionTemplate) {
+        this.changeSequenceRepository = changeSequenceRepository;
+        this.itemChangeBlockRepository = itemChangeBlockRepository;
+        this.itemTombstoneRepository = itemTombstoneRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // Numbers start..end, guarded by lock except for the lease
+    private static final class Block {
+        final long start;
+        final long end;
+        final long openedAt = System.nanoTime();
+        final NavigableSet<Long> inFlight = new TreeSet<>();
+        long next;
+        volatile Instant leasedUntil;
+        volatile boolean lost;
+
+        Block(long start, long end, Instant leasedUntil) {
+            this.start = start;
+            this.end = end;
+            this.next = start;
+            this.leasedUntil = leasedUntil;
+        }
+
+        boolean closed() {
+            return next > end;
+        }
+
+        // Highest number up to which every one of the block has committed or rolled back
+        long safeThrough() {
+            return (inFlight.isEmpty() ? next : inFlight.first()) - 1;
+        }
+    }
+
+    // V8 seeds both rows; schemas generated by Hibernate (the perf tests) start without them
+    @PostConstruct
+    void ensureSequences() {
+        for (String name : new String[] {ITEMS, TOMBSTONES_PURGED}) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (!changeSequenceRepository.existsById(name)) {
+                        changeSequenceRepository.saveAndFlush(new ChangeSequence(name, 0));
+                    }
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Another instance created it first
+            }
+        }
+    }
+
+    // A write transaction that takes the change number it's given
+    @FunctionalInterface
+    public interface Write<T> {
+        T run(long changeSeq, TransactionStatus status);
+    }
+
+    // Runs write in a new transaction under the next change number; the number is given up if it rolls back
+    public <T> T write(Write<T> write) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Change numbers must be taken before the write transaction opens");
+        }
+        Taken taken = take();
+        Block block = taken.block();
+        long changeSeq = taken.changeSeq();
+        try {
+            return transactionTemplate.execute(status -> {
+                T value = write.run(changeSeq, status);
+                // Once the lease is gone the row may be too, and the watermark past this number
+                if (!status.isRollbackOnly() && (block.lost || !Instant.now().isBefore(block.leasedUntil))) {
+                    throw new OptimisticLockingFailureException("Change " + changeSeq + " outlived the lease of its block");
+                }
+                return value;
+            });
+        } finally {
+            lock.lock();
+            try {
+                block.inFlight.remove(changeSeq);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private record Taken(Block block, long changeSeq) {
+    }
+
+    private Taken take() {
+        while (true) {
+            lock.lock();
+            try {
+                if (open != null && !open.closed()) {
+                    long changeSeq = open.next++;
+                    open.inFlight.add(changeSeq);
+                    return new Taken(open, changeSeq);
+                }
+            } finally {
+                lock.unlock();
+            }
+            // Reserved outside the lock: a write may already hold a connection (open in view, from a read before it),
+            // and enough of them waiting here while the reserving one waits for a connection would exhaust the pool
+            Block reserved = reserve();
+            lock.lock();
+            try {
+                held.add(reserved);
+                if (open == null || open.closed()) {
+                    open = reserved;
+                } else {
+                    // Another write reserved one first; this one is never used and its row goes at the next publish
+                    reserved.next = reserved.end + 1;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // The counter row is locked only for this short transaction, never for a write's
+    private Block reserve() {
+        int blockSize = properties.getBlockSize();
+        Instant leasedUntil = Instant.now().plus(properties.getLeaseDuration());
+        long start = transactionTemplate.execute(status -> {
+            ChangeSequence sequence = changeSequenceRepository.findForUpdate(ITEMS)
+                    .orElseThrow(() -> new IllegalStateException("change_sequences row '" + ITEMS + "' is missing"));
+            long first = sequence.getLastValue() + 1;
+            sequence.setLastValue(sequence.getLastValue() + blockSize);
+            itemChangeBlockRepository.save(new ItemChangeBlock(first, first + blockSize - 1, first - 1, leasedUntil));
+            return first;
+        });
+        return new Block(start, start + blockSize - 1, leasedUntil);
+    }
+
+    // Publishes how far each block's writes have finished and renews its lease; rows of finished blocks go away
+    @Scheduled(fixedDelayString = "${item-changes.publish-interval}", initialDelayString = "${item-changes.publish-interval}")
+    public void publish() {
+        Map<Block, Long> progress = new LinkedHashMap<>();
+        List<Block> finished = new ArrayList<>();
+        lock.lock();
+        try {
+            if (open != null && System.nanoTime() - open.openedAt >= properties.getPublishInterval().toNanos()) {
+                // The rest of the block is never used, so the watermark can pass it
+                open.next = open.end + 1;
+                open = null;
+            }
+            for (Block block : held) {
+                if (block.closed() && block.inFlight.isEmpty()) {
+                    finished.add(block);
+                } else {
+                    progress.put(block, block.safeThrough());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (finished.isEmpty() && progress.isEmpty()) {
+            return;
+        }
+
+        Instant leasedUntil = Instant.now().plus(properties.getLeaseDuration());
+        List<Block> lost = new ArrayList<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            finished.forEach(block -> itemChangeBlockRepository.deleteByBlockStart(block.start));
+            progress.forEach((block, safeThrough) -> {
+                if (itemChangeBlockRepository.renew(block.start, safeThrough, leasedUntil) == 0) {
+                    lost.add(block);
+                }
+            });
+        });
+
+        lock.lock();
+        try {
+            held.removeAll(finished);
+            for (Block block : progress.keySet()) {
+                if (lost.contains(block)) {
+                    log.warn("Item change block {}-{} outlived its lease and was expired", block.start, block.end);
+                    block.lost = true;
+                    held.remove(block);
+                    if (open == block) {
+                        open = null;
+                    }
+                } else {
+                    block.leasedUntil = leasedUntil;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Writes still running keep their rows until they're expired; the rest go now rather than after the lease
+    @PreDestroy
+    void release() {
+        lock.lock();
+        try {
+            if (open != null) {
+                open.next = open.end + 1;
+                open = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            publish();
+        } catch (DataAccessException e) {
+            log.warn("Could not release item change blocks; they expire after item-changes.lease-duration", e);
+        }
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeletion(Item item, long changeSeq) {
+        itemTombstoneRepository.save(new ItemTombstone(item.getId(), item.getAssetTag(), changeSeq, Instant.now()));
+    }
+
+    // Highest change number up to which every write has committed or rolled back, as seen by the caller's snapshot
+    public long safeThrough() {
+        Long lowest = itemChangeBlockRepository.findMinSafeThrough();
+        if (lowest != null) {
+            return lowest;
+        }
+        return changeSequenceRepository.findById(ITEMS).map(ChangeSequence::getLastValue).orElse(0L);
+    }
+
+    // Highest change number whose tombstone may be gone; 0 until the first purge
+    public long purgedThrough() {
+        return changeSequenceRepository.findById(TOMBSTONES_PURGED).map(ChangeSequence::getLastValue).orElse(0L);
+    }
+
+    // Blocks left behind by instances that went away
+    @Scheduled(fixedDelayString = "${item-changes.lease-duration}", initialDelayString = "${item-changes.lease-duration}")
+    public void expireAbandoned() {
+        Instant now = Instant.now();
+        Integer expired = transactionTemplate.execute(status -> itemChangeBlockRepository.deleteLeasedBefore(now));
+        if (expired != null && expired > 0) {
+            log.warn("Expired {} item change blocks whose instance stopped renewing them", expired);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${item-changes.purge-interval}", initialDelayString = "${item-changes.purge-interval}")
+    public void purgeTombstones() {
+        Instant cutoff = Instant.now().minus(properties.getTombstoneRetention());
+        Integer purged = transactionTemplate.execute(status -> {
+            Long through = itemTombstoneRepository.findMaxChangeSeqDeletedBefore(cutoff);
+            if (through == null) {
+                return 0;
+            }
+            // The watermark moves in the same transaction as the delete, so readers see both or neither
+            ChangeSequence watermark = changeSequenceRepository.findForUpdate(TOMBSTONES_PURGED)
+                    .orElseThrow(() -> new IllegalStateException("change_sequences row '" + TOMBSTONES_PURGED + "' is missing"));
+            watermark.setLastValue(Math.max(watermark.getLastValue(), through));
+            return itemTombstoneRepository.deleteThrough(through);
+        });
+        if (purged != null && purged > 0) {
+            log.info("Purged {} item tombstones deleted before {}", purged, cutoff);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.model.Department;
+import com.example.backend.model.Type;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rewrites assigning_department and type values stored as display names (rows written
+ * before the columns switched to two-letter codes) into codes. It runs after startup and
+ * walks the table in id ranges of BATCH_SIZE, one UPDATE per range, each committing on its
+ * own: only the rows of one range are locked at a time and the app keeps serving, with the
+ * converters reading both forms in the meantime. Each start first checks for any legacy
+ * value through the department and type indexes, so once every row is converted the walk
+ * is skipped. Narrowing the columns to char(2) afterwards is a separate, online
+ * maintenance step (backend/db/maintenance/narrow-item-code-columns.sql).
+ */
+@Slf4j
+@Component
+public class ItemCodeBackfill {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ItemCodeBackfill(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        Map<String, String> departments = new LinkedHashMap<>(); // display name -> code
+        for (Department dept : Department.values()) {
+            if (!dept.getDisplayName().equals(dept.getCode())) departments.put(dept.getDisplayName(), dept.getCode());
+        }
+        Map<String, String> types = new LinkedHashMap<>();
+        for (Type type : Type.values()) {
+            if (!type.getDisplayName().equals(type.getCode())) types.put(type.getDisplayName(), type.getCode());
+        }
+
+        List<Object> legacyValues = new ArrayList<>(departments.keySet());
+        legacyValues.addAll(types.keySet());
+
+        // Index lookups on idx_items_department_type_status / idx_items_type_status, not a scan
+        Boolean legacy = jdbcTemplate.queryForObject(
+                "select exists(select 1 from items where assigning_department in (" + placeholders(departments) + "))"
+                        + " or exists(select 1 from items where type in (" + placeholders(types) + "))",
+                Boolean.class, legacyValues.toArray());
+        if (!Boolean.TRUE.equals(legacy)) {
+            return;
+        }
+
+        Long first = jdbcTemplate.queryForObject("select min(id) from items", Long.class);
+        Long last = jdbcTemplate.queryForObject("select max(id) from items", Long.class);
+        if (first == null) {
+            return;
+        }
+
+        String sql = "update items set assigning_department = " + toCode("assigning_department", departments)
+                + ", type = " + toCode("type", types)
+                + " where id >= ? and id < ?"
+                + " and (assigning_department in (" + placeholders(departments) + ") or type in (" + placeholders(types) + "))";
+        int rewritten = 0;
+        for (long from = first; from <= last; from += BATCH_SIZE) {
+            List<Object> args = new ArrayList<>();
+            departments.forEach((displayName, code) -> Collections.addAll(args, displayName, code));
+            types.forEach((displayName, code) -> Collections.addAll(args, displayName, code));
+            Collections.addAll(args, from, from + BATCH_SIZE);
+            args.addAll(legacyValues);
+            rewritten += jdbcTemplate.update(sql, args.toArray());
+        }
+        if (rewritten > 0) {
+            log.info("Rewrote {} items with legacy department/type values to codes", rewritten);
+        }
+    }
+
+    // "case <column> when ? then ? ... else <column> end"; column names are the constants above, never input
+    private static String toCode(String column, Map<String, String> legacy) {
+        return legacy.isEmpty() ? column : "case " + column + " when ? then ?".repeat(legacy.size()) + " else " + column + " end";
+    }
+
+    private static String placeholders(Map<String, String> legacy) {
+        return legacy.isEmpty() ? "null" : String.join(", ", Collections.nCopies(legacy.size(), "?"));
+    }
+}
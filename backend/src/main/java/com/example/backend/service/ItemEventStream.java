@@ -0,0 +1,244 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.backend.config.ItemEventsProperties;
+import com.example.backend.event.ItemChangeEvent;
+import com.example.backend.exception.EventStreamsBusyException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans committed item changes out to the open GET /api/items/events streams.
+ *
+ * Each change is serialized once and the same frame is queued on every connection. A
+ * connection holds no thread while idle: its bounded queue is drained by a short-lived
+ * virtual thread whenever something is put on it, so a slow client only ever blocks its
+ * own drain. A client whose queue fills up is disconnected rather than buffered without
+ * limit; it reconnects with Last-Event-ID like any other.
+ *
+ * Resume replays from the last item-events.replay-size events this instance delivered.
+ * Frames are appended to that log and queued on every connection under one lock, so each
+ * client received exactly the events before its Last-Event-ID in log order, and everything
+ * after it is what it missed. An id that has left the log (or came from another instance,
+ * or from before a restart) gets a "resync" event instead, telling the client to reload.
+ *
+ * Only writes made through this instance are seen; like the search index, the stream is
+ * per instance.
+ */
+@Slf4j
+@Component
+public class ItemEventStream {
+
+    private final ItemEventsProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Counter dropped;
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("").build();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<Frame> replayLog = new ArrayDeque<>();
+    private final Set<Connection> connections = ConcurrentHashMap.newKeySet();
+
+    public ItemEventStream(ItemEventsProperties properties, ObjectMapper objectMapper, MeterRegistry registry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.dropped = Counter.builder("item.events.dropped").description("Streams closed because the client fell behind")
+                .register(registry);
+        Gauge.builder("item.events.connections", connections, Set::size).register(registry);
+    }
+
+    private record Frame(String id, Set<DataWithMediaType> data) {
+    }
+
+    /**
+     * Opens a stream that ends at the caller's token expiry at the latest. With a
+     * lastEventId, the events after it are sent first (or "resync" if they can't be).
+     */
+    public SseEmitter open(String lastEventId, long expiresAtMillis) {
+        if (connections.size() >= properties.getMaxConnections()) {
+            throw new EventStreamsBusyException(properties.getRetryAfterSeconds());
+        }
+        long timeout = Math.min(properties.getMaxConnectionAge().toMillis(), expiresAtMillis - System.currentTimeMillis());
+        SseEmitter emitter = new SseEmitter(Math.max(timeout, 1));
+        Connection connection = new Connection(emitter, properties.getBufferSize());
+        emitter.onCompletion(() -> connections.remove(connection));
+        emitter.onTimeout(() -> connection.close(null));
+        emitter.onError(e -> connection.close(e));
+
+        // Sets the client's reconnect delay and commits the response headers
+        connection.offer(SseEmitter.event().reconnectTime(properties.getReconnectDelay().toMillis()).comment("open").build());
+
+        lock.lock();
+        try {
+            if (lastEventId != null) {
+                List<Frame> missed = missedSince(lastEventId);
+                if (missed != null && missed.size() < properties.getBufferSize()) {
+                    missed.forEach(frame -> connection.offer(frame.data()));
+                } else {
+                    Frame newest = replayLog.peekLast();
+                    SseEmitter.SseEventBuilder resync = SseEmitter.event().name("resync").data("{}");
+                    connection.offer((newest != null ? resync.id(newest.id()) : resync).build());
+                }
+            }
+            connections.add(connection);
+        } finally {
+            lock.unlock();
+        }
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onItemChange(ItemChangeEvent event) {
+        Frame frame = toFrame(event);
+        if (frame == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            replayLog.addLast(frame);
+            if (replayLog.size() > properties.getReplaySize()) {
+                replayLog.removeFirst();
+            }
+            for (Connection connection : connections) {
+                connection.offer(frame.data());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Keeps idle connections from being cut by proxies, and notices clients that went away
+    @Scheduled(fixedRateString = "${item-events.heartbeat-interval}", initialDelayString = "${item-events.heartbeat-interval}")
+    public void sendHeartbeats() {
+        for (Connection connection : connections) {
+            connection.offer(heartbeat);
+        }
+    }
+
+    // Before graceful shutdown starts waiting for open requests, which streams never stop being
+    @EventListener(ContextClosedEvent.class)
+    public void closeAll() {
+        connections.forEach(connection -> connection.close(null));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdownNow();
+    }
+
+    // Frames after lastEventId in the log; null if it isn't there
+    private List<Frame> missedSince(String lastEventId) {
+        List<Frame> missed = new ArrayList<>();
+        Iterator<Frame> newestFirst = replayLog.descendingIterator();
+        while (newestFirst.hasNext()) {
+            Frame frame = newestFirst.next();
+            if (frame.id().equals(lastEventId)) {
+                return missed.reversed();
+            }
+            missed.add(frame);
+        }
+        return null;
+    }
+
+    private Frame toFrame(ItemChangeEvent event) {
+        // Items of one import chunk share a change number, so the item id keeps ids unique
+        String id = event.getChangeSeq() + "-" + event.getItemId();
+        Object payload = event.getAfter() != null
+                ? event.getAfter()
+                : Map.of("id", event.getItemId(), "assetTag", event.getBefore().getAssetTag());
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            return new Frame(id, SseEmitter.event().id(id).name(event.getKind().name().toLowerCase()).data(json).build());
+        } catch (JsonProcessingException e) {
+            log.error("Could not serialize change {} of item {} for the event stream", event.getChangeSeq(), event.getItemId(), e);
+            return null;
+        }
+    }
+
+    private final class Connection {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue; // linked, so an idle connection holds no array
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Connection(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new LinkedBlockingQueue<>(capacity);
+        }
+
+        void offer(Set<DataWithMediaType> data) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(data)) {
+                dropped.increment();
+                close(null);
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> data = queue.poll();
+                if (data == null) {
+                    draining.set(false);
+                    // Something queued after the poll but before the flag cleared is ours to send
+                    if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+                if (closed) {
+                    queue.clear();
+                    draining.set(false);
+                    return;
+                }
+                try {
+                    emitter.send(data);
+                } catch (IOException | IllegalStateException e) {
+                    // Client gone; the container reports it through onError/onCompletion as well
+                    close(e);
+                }
+            }
+        }
+
+        void close(Throwable cause) {
+            closed = true;
+            connections.remove(this);
+            if (cause == null) {
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.example.backend.dto.ExportFormat;
+import com.example.backend.dto.ItemFilter;
+
+public interface ItemExportService {
+
+    public void export(ItemFilter filter, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,119 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.dto.ExportFormat;
+import com.example.backend.dto.ItemFilter;
+import com.example.backend.model.Item;
+import com.example.backend.repository.ItemRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Streams items straight from a forward-only DB cursor to the response. Each row
+ * is detached once written, so heap use does not depend on the number of rows.
+ */
+@RequiredArgsConstructor
+@Service
+public class ItemExportServiceImpl implements ItemExportService {
+
+    private static final List<String> COLUMNS = List.of(
+            "id", "assetTag", "assigningDepartment", "type", "subType",
+            "serial", "model", "status", "defaultLocation");
+
+    private static final CsvMapper CSV_MAPPER = CsvMapper.builder()
+            .enable(JsonGenerator.Feature.IGNORE_UNKNOWN)
+            .build();
+
+    // SXSSF keeps only this many rows in memory and flushes the rest to a temp file
+    private static final int XLSX_ROW_WINDOW = 100;
+
+    private final ItemRepository itemRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public void export(ItemFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<Item> items = itemRepository.streamAll(
+                filter.getDepartment(), filter.getType(), filter.getStatus(), filter.getLocation())) {
+            Iterator<Item> rows = items.iterator();
+            switch (format) {
+                case csv -> writeCsv(rows, out);
+                case ndjson -> writeNdjson(rows, out);
+                case xlsx -> writeXlsx(rows, out);
+            }
+        }
+    }
+
+    private void writeCsv(Iterator<Item> rows, OutputStream out) throws IOException {
+        CsvSchema.Builder schema = CsvSchema.builder().setUseHeader(true);
+        COLUMNS.forEach(schema::addColumn);
+        try (SequenceWriter writer = CSV_MAPPER.writerFor(Item.class).with(schema.build()).writeValues(out)) {
+            while (rows.hasNext()) {
+                writer.write(next(rows));
+            }
+        }
+    }
+
+    private void writeNdjson(Iterator<Item> rows, OutputStream out) throws IOException {
+        try (SequenceWriter writer = objectMapper.writerFor(Item.class).withRootValueSeparator("\n").writeValues(out)) {
+            while (rows.hasNext()) {
+                writer.write(next(rows));
+            }
+        }
+        out.write('\n');
+    }
+
+    private void writeXlsx(Iterator<Item> rows, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_ROW_WINDOW);
+        try {
+            SXSSFSheet sheet = workbook.createSheet("Items");
+            Row header = sheet.createRow(0);
+            for (int c = 0; c < COLUMNS.size(); c++) {
+                header.createCell(c).setCellValue(COLUMNS.get(c));
+            }
+
+            int r = 1;
+            while (rows.hasNext()) {
+                Item item = next(rows);
+                Row row = sheet.createRow(r++);
+                row.createCell(0).setCellValue(item.getId());
+                row.createCell(1).setCellValue(item.getAssetTag());
+                row.createCell(2).setCellValue(item.getAssigningDepartment().getDisplayName());
+                row.createCell(3).setCellValue(item.getType().getDisplayName());
+                row.createCell(4).setCellValue(item.getSubType());
+                row.createCell(5).setCellValue(item.getSerial());
+                row.createCell(6).setCellValue(item.getModel());
+                row.createCell(7).setCellValue(item.getStatus());
+                row.createCell(8).setCellValue(item.getDefaultLocation());
+            }
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    // Detach each row as it is consumed so the persistence context does not grow with the export
+    private Item next(Iterator<Item> rows) {
+        Item item = rows.next();
+        entityManager.detach(item);
+        return item;
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.backend.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.config.ItemHistoryProperties;
+import com.example.backend.event.ItemChangeEvent;
+import com.example.backend.model.Item;
+import com.example.backend.model.ItemHistoryEntry;
+import com.example.backend.repository.ItemHistoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Appends every committed item change to item_history, off the write path.
+ *
+ * Within the write's own transaction, its changes are marked pending in
+ * item_history_pending with one batched INSERT just before commit (item id, change
+ * number, kind, user, time: everything but the diff). Once it has committed they are
+ * offered to a bounded queue (item-history.queue-capacity) without ever waiting. One
+ * background thread takes whatever has queued up, up to item-history.batch-size entries,
+ * works out which fields changed, and in one transaction appends them and clears their
+ * pending rows. A batch the database rejects is retried until it goes through, and
+ * entries still queued at shutdown are written before the data source closes.
+ *
+ * A change that never makes it through the queue (it was full, or the instance went
+ * away with entries still queued) keeps its pending row. Once that row is older than
+ * item-history.recover-after, any instance records the change as a gap: an entry with
+ * its kind, user and time, and "changes": null, since the before/after state is gone.
+ * Gaps are counted; if the queued entry does get written after all, it replaces the gap.
+ *
+ * History trails the write by the time it spends queued; the queue is per instance, the
+ * pending rows are shared.
+ */
+@Slf4j
+@Component
+public class ItemHistoryWriter {
+
+    private static final long POLL_MILLIS = 200;
+
+    private final ItemHistoryRepository itemHistoryRepository;
+    private final ItemHistoryProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Change> queue;
+    private final Thread writer = Thread.ofPlatform().name("item-history-writer").daemon(true).unstarted(this::run);
+    private volatile boolean stopping;
+
+    private final Counter overflowed;
+    private final Counter gaps;
+    private final Counter written;
+    private final Counter failedBatches;
+    private final Timer batchTimer;
+
+    public ItemHistoryWriter(ItemHistoryRepository itemHistoryRepository, ItemHistoryProperties properties,
+            ObjectMapper objectMapper, TransactionTemplate transactionTemplate, MeterRegistry registry) {
+        this.itemHistoryRepository = itemHistoryRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        Gauge.builder("item.history.queue.size", queue, BlockingQueue::size)
+                .description("Changes waiting to be written").register(registry);
+        Gauge.builder("item.history.queue.remaining", queue, BlockingQueue::remainingCapacity).register(registry);
+        this.overflowed = Counter.builder("item.history.overflowed")
+                .description("Changes that found the queue full; recorded as gaps after recover-after").register(registry);
+        this.gaps = Counter.builder("item.history.gaps")
+                .description("Changes recorded without their details").register(registry);
+        this.written = Counter.builder("item.history.written").register(registry);
+        this.failedBatches = Counter.builder("item.history.batch.failures").register(registry);
+        this.batchTimer = Timer.builder("item.history.batch").publishPercentileHistogram().register(registry);
+    }
+
+    private record Change(ItemChangeEvent event, Instant changedAt) {
+    }
+
+    @PostConstruct
+    void start() {
+        writer.start();
+    }
+
+    // Runs inside the write transaction, as the change is published
+    @EventListener
+    public void onItemChange(ItemChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Change> changes = (List<Change>) TransactionSynchronizationManager.getResource(this);
+        if (changes == null) {
+            changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new PendingChanges(changes));
+        }
+        changes.add(new Change(event, Instant.now()));
+    }
+
+    // The changes of one write transaction: marked pending as it commits, queued once it has
+    private final class PendingChanges implements TransactionSynchronization {
+        private final List<Change> changes;
+
+        PendingChanges(List<Change> changes) {
+            this.changes = changes;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            itemHistoryRepository.markPending(changes.stream().map(change -> entry(change, ItemHistoryEntry.UNRECORDED)).toList());
+        }
+
+        @Override
+        public void afterCommit() {
+            for (Change change : changes) {
+                if (!queue.offer(change)) {
+                    overflowed.increment();
+                }
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ItemHistoryWriter.this);
+        }
+    }
+
+    // Changes whose pending row outlived recover-after: the entry never reached the queue, or was lost with it
+    @Scheduled(fixedDelayString = "${item-history.recover-interval}", initialDelayString = "${item-history.recover-interval}")
+    public void recordGaps() {
+        Instant cutoff = Instant.now().minus(properties.getRecoverAfter());
+        int recorded = 0;
+        for (ItemHistoryEntry gap : itemHistoryRepository.findPendingBefore(cutoff, properties.getBatchSize())) {
+            Boolean claimed = transactionTemplate.execute(status -> {
+                // Gone if the writer got to it after all; a batch writing it right now makes this wait for its commit
+                if (itemHistoryRepository.deletePending(gap.getItemId(), gap.getChangeSeq()) == 0) {
+                    return false;
+                }
+                itemHistoryRepository.appendBatch(List.of(gap));
+                return true;
+            });
+            if (Boolean.TRUE.equals(claimed)) {
+                recorded++;
+            }
+        }
+        if (recorded > 0) {
+            gaps.increment(recorded);
+            log.warn("Recorded {} item changes from before {} as history gaps; their details were never written", recorded, cutoff);
+        }
+    }
+
+    // Bean destruction runs after the context has stopped taking requests and before the data source closes
+    @PreDestroy
+    void stop() throws InterruptedException {
+        stopping = true;
+        writer.join();
+    }
+
+    private void run() {
+        List<Change> batch = new ArrayList<>(properties.getBatchSize());
+        while (true) {
+            Change first;
+            try {
+                first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                first = null;
+            }
+            if (first == null) {
+                if (stopping) {
+                    return;
+                }
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, properties.getBatchSize() - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Change> batch) {
+        List<ItemHistoryEntry> entries = new ArrayList<>(batch.size());
+        for (Change change : batch) {
+            ItemChangeEvent event = change.event();
+            String changes;
+            try {
+                changes = diff(event.getBefore(), event.getAfter());
+            } catch (JsonProcessingException e) {
+                log.error("Could not serialize change {} of item {} for the history", event.getChangeSeq(), event.getItemId(), e);
+                changes = ItemHistoryEntry.UNRECORDED;
+                gaps.increment();
+            }
+            entries.add(entry(change, changes));
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                batchTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                    itemHistoryRepository.clearPending(entries);
+                    itemHistoryRepository.appendBatch(entries);
+                }));
+                written.increment(entries.size());
+                return;
+            } catch (DataAccessException e) {
+                failedBatches.increment();
+                if (stopping) {
+                    // Their pending rows remain, so they become gaps rather than disappearing
+                    log.warn("Could not write {} item history entries before shutdown", entries.size(), e);
+                    return;
+                }
+                log.warn("Could not write {} item history entries (attempt {}), retrying in {}", entries.size(), attempt,
+                        properties.getRetryDelay(), e);
+                try {
+                    Thread.sleep(properties.getRetryDelay());
+                } catch (InterruptedException interrupted) {
+                    // Retried straight away
+                }
+            }
+        }
+    }
+
+    private static ItemHistoryEntry entry(Change change, String changes) {
+        ItemChangeEvent event = change.event();
+        return new ItemHistoryEntry(null, event.getItemId(), event.getChangeSeq(), event.getKind(), event.getUserId(),
+                change.changedAt(), changes);
+    }
+
+    // {"field": {"from": ..., "to": ...}} for every field that differs; before is null on create, after on delete
+    String diff(Item before, Item after) throws JsonProcessingException {
+        Map<String, Map<String, Object>> changes = new LinkedHashMap<>();
+        compare(changes, "assigningDepartment", before, after, Item::getAssigningDepartment);
+        compare(changes, "assetTag", before, after, Item::getAssetTag);
+        compare(changes, "type", before, after, Item::getType);
+        compare(changes, "subType", before, after, Item::getSubType);
+        compare(changes, "serial", before, after, Item::getSerial);
+        compare(changes, "model", before, after, Item::getModel);
+        compare(changes, "status", before, after, Item::getStatus);
+        compare(changes, "defaultLocation", before, after, Item::getDefaultLocation);
+        return objectMapper.writeValueAsString(changes);
+    }
+
+    private static void compare(Map<String, Map<String, Object>> changes, String field, Item before, Item after,
+            Function<Item, Object> value) {
+        Object from = before != null ? value.apply(before) : null;
+        Object to = after != null ? value.apply(after) : null;
+        if (!Objects.equals(from, to)) {
+            Map<String, Object> change = new LinkedHashMap<>();
+            change.put("from", from);
+            change.put("to", to);
+            changes.put(field, change);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.example.backend.dto.ImportReport;
+
+public interface ItemImportService {
+
+    public ImportReport importCsv(InputStream input) throws IOException;
+    public ImportReport importNdjson(InputStream input) throws IOException;
+}
@@ -0,0 +1,185 @@
+package com.example.backend.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.example.backend.config.ImportProperties;
+import com.example.backend.dto.ImportReport;
+import com.example.backend.dto.ImportRowResult;
+import com.example.backend.event.ItemChangeEvent;
+import com.example.backend.model.Item;
+import com.example.backend.repository.ItemRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bulk item import. Rows are parsed and validated one at a time, then written in
+ * chunks of import.batch-size. Each chunk reserves one range of asset tag sequence
+ * numbers per series it touches, then is written as one batched INSERT in its own
+ * transaction.
+ */
+@RequiredArgsConstructor
+@Service
+public class ItemImportServiceImpl implements ItemImportService {
+
+    private static final CsvMapper CSV_MAPPER = new CsvMapper();
+
+    private final ItemRepository itemRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ImportProperties importProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AssetTagAllocator assetTagAllocator;
+    private final ItemChangeLog itemChangeLog;
+
+    public ImportReport importCsv(InputStream input) throws IOException {
+        ImportRun run = new ImportRun();
+        // Rows are read as plain maps so one bad value cannot desynchronise the parser
+        try (MappingIterator<Map<String, String>> rows = CSV_MAPPER.readerForMapOf(String.class)
+                .with(CsvSchema.emptySchema().withHeader())
+                .readValues(input)) {
+            while (rows.hasNextValue()) {
+                Map<String, String> row = rows.nextValue();
+                run.accept(() -> objectMapper.convertValue(row, Item.class));
+            }
+        }
+        return run.finish();
+    }
+
+    public ImportReport importNdjson(InputStream input) throws IOException {
+        ImportRun run = new ImportRun();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                String json = line;
+                run.accept(() -> objectMapper.readValue(json, Item.class));
+            }
+        }
+        return run.finish();
+    }
+
+    @FunctionalInterface
+    private interface RowParser {
+        Item parse() throws IOException;
+    }
+
+    private class ImportRun {
+        private final List<ImportRowResult> results = new ArrayList<>();
+        private final List<Item> pending = new ArrayList<>();
+        private final List<Integer> pendingRows = new ArrayList<>();
+        private int row;
+
+        void accept(RowParser parser) {
+            row++;
+            Item item;
+            try {
+                item = parser.parse();
+            } catch (IOException | IllegalArgumentException e) {
+                results.add(ImportRowResult.failed(row, List.of("Malformed row: " + describe(e))));
+                return;
+            }
+            if (item == null) {
+                results.add(ImportRowResult.failed(row, List.of("Malformed row: empty value")));
+                return;
+            }
+
+            // Ids and asset tags are always assigned by the server
+            item.setId(null);
+            item.setAssetTag(null);
+
+            Set<ConstraintViolation<Item>> violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                results.add(ImportRowResult.failed(row, violations.stream().map(ConstraintViolation::getMessage).sorted().toList()));
+                return;
+            }
+
+            pending.add(item);
+            pendingRows.add(row);
+            if (pending.size() >= importProperties.getBatchSize()) {
+                flush();
+            }
+        }
+
+        ImportReport finish() {
+            flush();
+            results.sort(Comparator.comparingInt(ImportRowResult::getRow));
+            int created = (int) results.stream().filter(r -> r.getErrors().isEmpty()).count();
+            return new ImportReport(results.size(), created, results.size() - created, results);
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) return;
+            List<Item> chunk = new ArrayList<>(pending);
+            List<Integer> chunkRows = new ArrayList<>(pendingRows);
+            pending.clear();
+            pendingRows.clear();
+
+            try {
+                assignAssetTags(chunk);
+                results.addAll(itemChangeLog.write((changeSeq, status) -> writeChunk(chunk, chunkRows, changeSeq)));
+            } catch (DataAccessException e) {
+                // The whole chunk was rolled back
+                String message = "Batch write failed: " + e.getMostSpecificCause().getMessage();
+                chunkRows.forEach(r -> results.add(ImportRowResult.failed(r, List.of(message))));
+            }
+        }
+    }
+
+    private void assignAssetTags(List<Item> chunk) {
+        String yyMM = AssetTags.currentYearMonth();
+        Map<String, List<Item>> bySeries = chunk.stream().collect(Collectors.groupingBy(
+                item -> AssetTags.seriesKey(item.getAssigningDepartment(), yyMM, item.getType()),
+                LinkedHashMap::new, Collectors.toList()));
+        bySeries.forEach((seriesKey, items) -> {
+            long sequence = assetTagAllocator.reserve(seriesKey, items.size());
+            for (Item item : items) {
+                item.setAssetTag(AssetTags.format(item.getAssigningDepartment(), yyMM, item.getType(),
+                        item.getSubType(), sequence++));
+            }
+        });
+    }
+
+    // The whole chunk is one write as far as delta sync is concerned
+    private List<ImportRowResult> writeChunk(List<Item> chunk, List<Integer> chunkRows, long changeSeq) {
+        chunk.forEach(item -> item.setChangeSeq(changeSeq));
+        itemRepository.insertBatch(chunk);
+
+        List<ImportRowResult> results = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            Item item = chunk.get(i);
+            results.add(ImportRowResult.created(chunkRows.get(i), item.getId(), item.getAssetTag()));
+            eventPublisher.publishEvent(ItemChangeEvent.created(item));
+        }
+        return results;
+    }
+
+    private static String describe(Exception e) {
+        Throwable cause = e instanceof JsonProcessingException ? e : e.getCause();
+        if (cause instanceof JsonProcessingException jsonException) {
+            return jsonException.getOriginalMessage();
+        }
+        return e.getMessage();
+    }
+}
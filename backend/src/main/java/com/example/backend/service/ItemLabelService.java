@@ -0,0 +1,16 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+import com.example.backend.dto.LabelFormat;
+import com.example.backend.dto.LabelRequest;
+
+public interface ItemLabelService {
+
+    // Asset tags of the requested items, in id order; runs before the response starts, so errors are still answerable
+    public List<String> resolveAssetTags(LabelRequest request);
+
+    public void render(List<String> assetTags, LabelFormat format, OutputStream out) throws IOException;
+}
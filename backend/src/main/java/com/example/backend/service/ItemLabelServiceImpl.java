@@ -0,0 +1,126 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.config.LabelProperties;
+import com.example.backend.config.QrCodeProperties;
+import com.example.backend.dto.ItemFilter;
+import com.example.backend.dto.LabelFormat;
+import com.example.backend.dto.LabelRequest;
+import com.example.backend.exception.ItemNotFoundException;
+import com.example.backend.exception.TooManyLabelsException;
+import com.example.backend.repository.ItemRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Printable QR label sheets. Pages are rendered on a fork/join pool shared by all label
+ * requests (labels.parallelism threads) and written to the response in order as they
+ * finish; at most two pages per thread are in flight for a request, so memory stays flat
+ * however many labels are printed while the client is already receiving the first pages.
+ */
+@Service
+public class ItemLabelServiceImpl implements ItemLabelService {
+
+    // Ids looked up per query; keeps the IN list well inside what MySQL handles comfortably
+    private static final int ID_CHUNK = 1000;
+
+    private final ItemRepository itemRepository;
+    private final LabelProperties properties;
+    private final QrCodeProperties qrProperties;
+    private final ForkJoinPool renderPool;
+    private final MeterRegistry registry;
+
+    public ItemLabelServiceImpl(ItemRepository itemRepository, LabelProperties properties, QrCodeProperties qrProperties,
+            MeterRegistry registry) {
+        this.itemRepository = itemRepository;
+        this.properties = properties;
+        this.qrProperties = qrProperties;
+        this.registry = registry;
+        int parallelism = properties.getParallelism() > 0 ? properties.getParallelism() : Runtime.getRuntime().availableProcessors();
+        this.renderPool = new ForkJoinPool(parallelism);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renderPool.shutdownNow();
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> resolveAssetTags(LabelRequest request) {
+        int maxLabels = properties.getMaxLabels();
+        List<String> assetTags = new ArrayList<>();
+
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            List<Long> ids = new ArrayList<>(new TreeSet<>(request.getIds()));
+            if (ids.size() > maxLabels) {
+                throw new TooManyLabelsException(maxLabels);
+            }
+            for (int from = 0; from < ids.size(); from += ID_CHUNK) {
+                List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK, ids.size()));
+                List<ItemRepository.TagId> found = itemRepository.findTagIdsByIdIn(chunk);
+                for (int i = 0; i < chunk.size(); i++) {
+                    // Both lists are in id order, so the first difference is the first missing item
+                    if (i >= found.size() || !found.get(i).getId().equals(chunk.get(i))) {
+                        throw new ItemNotFoundException(chunk.get(i));
+                    }
+                    assetTags.add(found.get(i).getAssetTag());
+                }
+            }
+            return assetTags;
+        }
+
+        ItemFilter filter = request.getFilter() != null ? request.getFilter() : new ItemFilter();
+        List<ItemRepository.TagId> found = itemRepository.findTagIds(filter.getDepartment(), filter.getType(),
+                filter.getStatus(), filter.getLocation(), Limit.of(maxLabels + 1));
+        if (found.size() > maxLabels) {
+            throw new TooManyLabelsException(maxLabels);
+        }
+        found.forEach(row -> assetTags.add(row.getAssetTag()));
+        return assetTags;
+    }
+
+    public void render(List<String> assetTags, LabelFormat format, OutputStream out) throws IOException {
+        LabelLayout layout = new LabelLayout(properties, qrProperties);
+        LabelSheet sheet = switch (format) {
+            case pdf -> new PdfLabelSheet(layout);
+            case png -> new PngLabelSheet(layout, properties.getPngDpi());
+        };
+        int perPage = layout.perPage();
+        int window = renderPool.getParallelism() * 2;
+        ArrayDeque<ForkJoinTask<byte[]>> inFlight = new ArrayDeque<>(window);
+
+        Timer.Sample sample = Timer.start(registry);
+        sheet.begin(out);
+        try {
+            for (int from = 0; from < assetTags.size(); from += perPage) {
+                List<String> page = assetTags.subList(from, Math.min(from + perPage, assetTags.size()));
+                if (inFlight.size() == window) {
+                    sheet.writePage(inFlight.removeFirst().join());
+                }
+                inFlight.addLast(renderPool.submit(() -> sheet.renderPage(page)));
+            }
+            while (!inFlight.isEmpty()) {
+                sheet.writePage(inFlight.removeFirst().join());
+            }
+            sheet.finish();
+        } finally {
+            // The client went away or a page failed: don't finish rendering pages nobody will read
+            inFlight.forEach(task -> task.cancel(true));
+            sample.stop(Timer.builder("labels.render").tag("format", format.name()).register(registry));
+        }
+    }
+}
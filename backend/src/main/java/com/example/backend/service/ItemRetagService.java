@@ -0,0 +1,10 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.RetagRequest;
+import com.example.backend.model.RetagJob;
+
+public interface ItemRetagService {
+
+    public RetagJob startJob(RetagRequest request, Long userId);
+    public RetagJob getJob(Long id);
+}
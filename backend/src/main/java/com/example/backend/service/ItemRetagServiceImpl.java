@@ -0,0 +1,75 @@
+package com.example.backend.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.config.RetagJobProperties;
+import com.example.backend.dto.ItemFilter;
+import com.example.backend.dto.RetagRequest;
+import com.example.backend.exception.RetagJobNotFoundException;
+import com.example.backend.model.RetagJob;
+import com.example.backend.model.RetagJobChunk;
+import com.example.backend.repository.ItemRepository;
+import com.example.backend.repository.RetagJobChunkRepository;
+import com.example.backend.repository.RetagJobRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Bulk re-tagging. Starting a job fixes which items it covers: the ids matching the filter
+ * at that moment, split into id ranges of retag-jobs.chunk-size items, all stored with
+ * the job in one transaction. RetagJobRunner then works through the ranges.
+ */
+@RequiredArgsConstructor
+@Service
+public class ItemRetagServiceImpl implements ItemRetagService {
+
+    private final ItemRepository itemRepository;
+    private final RetagJobRepository retagJobRepository;
+    private final RetagJobChunkRepository retagJobChunkRepository;
+    private final RetagJobProperties properties;
+    private final RetagJobRunner retagJobRunner;
+    private final TransactionTemplate transactionTemplate;
+
+    public RetagJob startJob(RetagRequest request, Long userId) {
+        ItemFilter filter = request.getFilter() != null ? request.getFilter() : new ItemFilter();
+        RetagJob job = transactionTemplate.execute(status -> {
+            List<Long> ids = itemRepository.findIds(filter.getDepartment(), filter.getType(), filter.getStatus(),
+                    filter.getLocation());
+
+            RetagJob created = new RetagJob();
+            created.setState(RetagJob.State.running);
+            created.setFilterDepartment(filter.getDepartment());
+            created.setFilterType(filter.getType());
+            created.setFilterStatus(filter.getStatus());
+            created.setFilterLocation(filter.getLocation());
+            created.setAssigningDepartment(request.getAssigningDepartment());
+            created.setType(request.getType());
+            created.setSubType(request.getSubType());
+            created.setTotalItems(ids.size());
+            created.setTotalChunks((ids.size() + properties.getChunkSize() - 1) / properties.getChunkSize());
+            created.setCreatedBy(userId);
+            created.setCreatedAt(Instant.now());
+            retagJobRepository.save(created);
+
+            List<RetagJobChunk> chunks = new ArrayList<>(created.getTotalChunks());
+            for (int from = 0; from < ids.size(); from += properties.getChunkSize()) {
+                int to = Math.min(from + properties.getChunkSize(), ids.size()) - 1;
+                chunks.add(new RetagJobChunk(null, created.getId(), ids.get(from), ids.get(to), RetagJobChunk.State.pending, null));
+            }
+            retagJobChunkRepository.saveAll(chunks);
+            return created;
+        });
+
+        retagJobRunner.launch(job.getId());
+        return job;
+    }
+
+    public RetagJob getJob(Long id) {
+        return retagJobRepository.findById(id).orElseThrow(() -> new RetagJobNotFoundException(id));
+    }
+}
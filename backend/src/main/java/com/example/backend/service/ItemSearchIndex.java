@@ -0,0 +1,339 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.event.ItemChangeEvent;
+import com.example.backend.model.Item;
+import com.example.backend.repository.ItemRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory n-gram index over assetTag, serial, model, subType and defaultLocation.
+ *
+ * Every field value is lower-cased and split into 2- and 3-grams; each gram maps to an
+ * ascending list of internal doc numbers. A query token is answered by intersecting the
+ * posting lists of its grams and verifying the (few) candidates with a real substring
+ * check, so no query ever scans the items table. Updates append a new doc and tombstone
+ * the old one; postings are compacted once tombstones make up a quarter of the index.
+ *
+ * The index is per instance: it is built from the table at startup and then follows only
+ * the writes committed through this instance. With several instances behind the load
+ * balancer, an item written through another one is found under its old values (or not at
+ * all, if it is new) until this instance restarts; ids that were deleted elsewhere come
+ * back as hits, and searchItems drops them when it loads the rows. Run a single instance,
+ * or accept search results that lag other instances' writes.
+ */
+@Slf4j
+@Component
+public class ItemSearchIndex {
+
+    // Field weights, in Doc.fields order: assetTag, serial, model, subType, defaultLocation
+    private static final int[] FIELD_WEIGHTS = {3, 3, 2, 1, 1};
+    private static final int EXACT = 100, PREFIX = 40, SUBSTRING = 10;
+
+    private final ItemRepository itemRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+    private List<ItemChangeEvent> pendingDuringRebuild; // non-null while a rebuild is running
+
+    public ItemSearchIndex(ItemRepository itemRepository, TransactionTemplate transactionTemplate, EntityManager entityManager) {
+        this.itemRepository = itemRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+    }
+
+    public static class Hit {
+        public final long itemId;
+        public final int score;
+
+        Hit(long itemId, int score) {
+            this.itemId = itemId;
+            this.score = score;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment fresh = new Segment();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Item> items = itemRepository.streamAll(null, null, null, null)) {
+                items.forEach(item -> {
+                    fresh.put(item);
+                    entityManager.detach(item);
+                });
+            }
+        });
+
+        // Changes committed while we were reading are replayed on top before swapping in
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(fresh::apply);
+            pendingDuringRebuild = null;
+            segment = fresh;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Item search index built: {} items, {} grams", fresh.live, fresh.postings.size());
+    }
+
+    @TransactionalEventListener
+    public void onItemChange(ItemChangeEvent event) {
+        lock.writeLock().lock();
+        try {
+            segment.apply(event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Ranked item ids for a whitespace-separated query; every token must match some field
+    public List<Hit> search(String query, int limit) {
+        String[] tokens = normalize(query).split("\\s+");
+        if (tokens.length == 0 || tokens[0].isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return segment.search(tokens, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Doc {
+        final long itemId;
+        final String[] fields;
+
+        Doc(Item item) {
+            this.itemId = item.getId();
+            this.fields = new String[] {
+                    normalize(item.getAssetTag()), normalize(item.getSerial()), normalize(item.getModel()),
+                    normalize(item.getSubType()), normalize(item.getDefaultLocation())};
+        }
+
+        int score(String token) {
+            int score = 0;
+            for (int f = 0; f < fields.length; f++) {
+                int at = fields[f].indexOf(token);
+                if (at < 0) continue;
+                int kind = at > 0 ? SUBSTRING : fields[f].length() == token.length() ? EXACT : PREFIX;
+                score += kind * FIELD_WEIGHTS[f];
+            }
+            return score;
+        }
+    }
+
+    // Append-only ascending int list
+    private static final class Postings {
+        int[] docs = new int[4];
+        int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+    }
+
+    private static final class Segment {
+        final List<Doc> docs = new ArrayList<>();           // doc number -> doc, null once tombstoned
+        final Map<Long, Integer> docByItem = new HashMap<>();
+        final Map<String, Postings> postings = new HashMap<>();
+        int live;
+
+        void apply(ItemChangeEvent event) {
+            switch (event.getKind()) {
+                case CREATED, UPDATED -> put(event.getAfter());
+                case DELETED -> remove(event.getItemId());
+            }
+        }
+
+        void put(Item item) {
+            remove(item.getId());
+            int docNumber = docs.size();
+            Doc doc = new Doc(item);
+            docs.add(doc);
+            docByItem.put(doc.itemId, docNumber);
+            live++;
+
+            Set<String> grams = new HashSet<>();
+            for (String field : doc.fields) {
+                addGrams(field, grams);
+            }
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, g -> new Postings()).add(docNumber);
+            }
+        }
+
+        void remove(Long itemId) {
+            Integer docNumber = docByItem.remove(itemId);
+            if (docNumber == null) return;
+            docs.set(docNumber, null);
+            live--;
+            int dead = docs.size() - live;
+            if (dead > 1000 && dead * 4 > docs.size()) {
+                compact();
+            }
+        }
+
+        // Re-number live docs densely and rebuild postings
+        private void compact() {
+            List<Doc> survivors = docs.stream().filter(d -> d != null).toList();
+            docs.clear();
+            docByItem.clear();
+            postings.clear();
+            live = 0;
+            for (Doc doc : survivors) {
+                int docNumber = docs.size();
+                docs.add(doc);
+                docByItem.put(doc.itemId, docNumber);
+                live++;
+                Set<String> grams = new HashSet<>();
+                for (String field : doc.fields) {
+                    addGrams(field, grams);
+                }
+                for (String gram : grams) {
+                    postings.computeIfAbsent(gram, g -> new Postings()).add(docNumber);
+                }
+            }
+        }
+
+        List<Hit> search(String[] tokens, int limit) {
+            // Single characters only narrow down candidates found through longer tokens
+            int[] candidates = null;
+            for (String token : tokens) {
+                if (token.length() < 2) continue;
+                int[] matches = candidatesFor(token);
+                candidates = candidates == null ? matches : intersect(candidates, candidates.length, matches, matches.length);
+                if (candidates.length == 0) return List.of();
+            }
+            if (candidates == null) {
+                return List.of();
+            }
+
+            Comparator<Hit> worstFirst = Comparator.<Hit>comparingInt(h -> h.score).thenComparingLong(h -> -h.itemId);
+            PriorityQueue<Hit> top = new PriorityQueue<>(worstFirst);
+            for (int candidate : candidates) {
+                Doc doc = docs.get(candidate);
+                if (doc == null) continue;
+                int score = 0;
+                for (String token : tokens) {
+                    int tokenScore = doc.score(token);
+                    if (tokenScore == 0) {
+                        score = 0;
+                        break;
+                    }
+                    score += tokenScore;
+                }
+                if (score == 0) continue;
+                Hit hit = new Hit(doc.itemId, score);
+                if (top.size() < limit) {
+                    top.add(hit);
+                } else if (worstFirst.compare(hit, top.peek()) > 0) {
+                    top.poll();
+                    top.add(hit);
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.<Hit>comparingInt(h -> -h.score).thenComparingLong(h -> h.itemId));
+            return hits;
+        }
+
+        // Docs containing every 3-gram (or the 2-gram, for two-letter tokens) of the token
+        private int[] candidatesFor(String token) {
+            int n = Math.min(3, token.length());
+            List<Postings> lists = new ArrayList<>();
+            for (int i = 0; i + n <= token.length(); i++) {
+                Postings list = postings.get(token.substring(i, i + n));
+                if (list == null) return new int[0];
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(p -> p.size));
+            int[] result = Arrays.copyOf(lists.get(0).docs, lists.get(0).size);
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = intersect(result, result.length, lists.get(i).docs, lists.get(i).size);
+            }
+            return result;
+        }
+
+        private static int[] intersect(int[] a, int aSize, int[] b, int bSize) {
+            if (aSize * 16 < bSize) {
+                return gallop(a, aSize, b, bSize);
+            }
+            int[] out = new int[Math.min(aSize, bSize)];
+            int i = 0, j = 0, k = 0;
+            while (i < aSize && j < bSize) {
+                if (a[i] < b[j]) i++;
+                else if (a[i] > b[j]) j++;
+                else {
+                    out[k++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+            return Arrays.copyOf(out, k);
+        }
+
+        // Small list against a much larger one: binary-search each element instead of merging
+        private static int[] gallop(int[] small, int smallSize, int[] large, int largeSize) {
+            int[] out = new int[smallSize];
+            int k = 0, from = 0;
+            for (int i = 0; i < smallSize && from < largeSize; i++) {
+                int at = Arrays.binarySearch(large, from, largeSize, small[i]);
+                if (at >= 0) {
+                    out[k++] = small[i];
+                    from = at + 1;
+                } else {
+                    from = -at - 1;
+                }
+            }
+            return Arrays.copyOf(out, k);
+        }
+
+        private static void addGrams(String value, Set<String> grams) {
+            for (int n = 2; n <= 3; n++) {
+                for (int i = 0; i + n <= value.length(); i++) {
+                    grams.add(value.substring(i, i + n));
+                }
+            }
+        }
+    }
+}
@@ -1,13 +1,27 @@
 package com.example.backend.service;
 
-import java.util.List;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.ItemChanges;
+import com.example.backend.dto.ItemFilter;
+import com.example.backend.dto.ItemSortKey;
+import com.example.backend.dto.ItemStats;
+import com.example.backend.dto.QrImage;
 import com.example.backend.model.Item;
+import com.example.backend.model.ItemHistoryEntry;
+
+import java.util.List;
 
 public interface ItemService {
 
-    public List<Item> getAllItems();
+    public CursorPage<Item> getItems(ItemFilter filter, ItemSortKey sort, String cursor, Integer size);
     public Item getItemById(Long id);
+    public Item getItemByAssetTag(String assetTag);
     public Item createItem(Item item);
-    public Item updateItem(Long id, Item item);
+    public Item updateItem(Long id, Item item, Long expectedVersion);
     public void deleteItem(Long id);
+    public QrImage getQrCode(Long id);
+    public List<Item> searchItems(String query, Integer limit);
+    public ItemStats getStats();
+    public ItemChanges getChanges(String since, Integer size);
+    public CursorPage<ItemHistoryEntry> getHistory(Long id, String cursor, Integer size);
 }
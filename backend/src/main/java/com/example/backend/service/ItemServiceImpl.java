@@ -1,23 +1,42 @@
 package com.example.backend.service;
 
-import java.io.ByteArrayOutputStream;
-import java.time.YearMonth;
-import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.example.backend.exception.DuplicateAssetTagException;
-import com.example.backend.exception.FailedToGenerateQRException;
+import com.example.backend.config.AssetTagProperties;
+import com.example.backend.config.PaginationProperties;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.ItemChanges;
+import com.example.backend.dto.ItemFilter;
+import com.example.backend.dto.ItemSortKey;
+import com.example.backend.dto.ItemStats;
+import com.example.backend.dto.PageCursor;
+import com.example.backend.dto.QrImage;
+import com.example.backend.event.ItemChangeEvent;
+import com.example.backend.exception.ChangeTokenExpiredException;
+import com.example.backend.exception.InvalidCursorException;
 import com.example.backend.exception.ItemNotFoundException;
+import com.example.backend.exception.ItemVersionMismatchException;
+import com.example.backend.exception.ItemWithAssetTagNotFoundException;
+import com.example.backend.model.Department;
 import com.example.backend.model.Item;
+import com.example.backend.model.ItemHistoryEntry;
+import com.example.backend.model.ItemTombstone;
+import com.example.backend.model.Type;
+import com.example.backend.repository.ItemHistoryRepository;
 import com.example.backend.repository.ItemRepository;
-import com.google.zxing.BarcodeFormat;
-import com.google.zxing.MultiFormatWriter;
-import com.google.zxing.client.j2se.MatrixToImageWriter;
-import com.google.zxing.common.BitMatrix;
+import com.example.backend.repository.ItemTombstoneRepository;
 import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
@@ -25,9 +44,40 @@ import lombok.AllArgsConstructor;
 public class ItemServiceImpl implements ItemService {
 
     private ItemRepository itemRepository;
+    private QrCodeService qrCodeService;
+    private PaginationProperties paginationProperties;
+    private ItemSearchIndex itemSearchIndex;
+    private ItemStatsCounters itemStatsCounters;
+    private ItemTagIndex itemTagIndex;
+    private ApplicationEventPublisher eventPublisher;
+    private AssetTagAllocator assetTagAllocator;
+    private ItemChangeLog itemChangeLog;
+    private ItemTombstoneRepository itemTombstoneRepository;
+    private ItemHistoryRepository itemHistoryRepository;
+    private AssetTagProperties assetTagProperties;
 
-    public List<Item> getAllItems() {
-        return itemRepository.findAll();
+    private static final String CHANGES_TOKEN = "changes";
+    private static final String HISTORY_TOKEN = "history";
+
+    public CursorPage<Item> getItems(ItemFilter filter, ItemSortKey sort, String cursor, Integer size) {
+        PageCursor after = PageCursor.decode(cursor, sort.name());
+        long afterId = after != null ? after.getLastId() : 0L;
+        String afterValue = after != null ? after.getLastValue() : "";
+        int pageSize = paginationProperties.resolve(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        Department department = filter.getDepartment();
+        Type type = filter.getType();
+        String status = filter.getStatus();
+        String location = filter.getLocation();
+        List<Item> rows = switch (sort) {
+            case id -> itemRepository.findPageOrderById(department, type, status, location, afterId, limit);
+            case assetTag -> itemRepository.findPageOrderByAssetTag(department, type, status, location, afterValue, afterId, limit);
+            case model -> itemRepository.findPageOrderByModel(department, type, status, location, afterValue, afterId, limit);
+            case status -> itemRepository.findPageOrderByStatus(department, type, status, location, afterValue, afterId, limit);
+        };
+
+        return CursorPage.of(rows, pageSize, item -> new PageCursor(sort.name(), item.getId(), sortValue(item, sort)));
     }
 
     public Item getItemById(Long id) {
@@ -35,42 +85,70 @@ public class ItemServiceImpl implements ItemService {
         return item;
     }
 
-    @Transactional
+    public Item getItemByAssetTag(String assetTag) {
+        // Index hit -> primary-key load, usually from the second-level cache; checked in case the index is behind
+        Long id = itemTagIndex.lookup(assetTag);
+        if (id != null) {
+            Optional<Item> item = itemRepository.findById(id);
+            if (item.isPresent() && assetTag.equals(item.get().getAssetTag())) {
+                return item.get();
+            }
+        }
+        // Not indexed here, e.g. written through another instance
+        return itemRepository.findByAssetTag(assetTag).orElseThrow(() -> new ItemWithAssetTagNotFoundException(assetTag));
+    }
+
     public Item createItem(Item item) {
-        // Save item to generate ID (part of the transaction)
-        Item savedItem = itemRepository.save(item);
+        // The tag is allocated before the write transaction, so creating an item is a single INSERT
+        item.setAssetTag(assetTagAllocator.allocate(item.getAssigningDepartment(), AssetTags.currentYearMonth(),
+                item.getType(), item.getSubType()));
 
-        // Generate YYMM from current date
-        YearMonth currentYearMonth = YearMonth.now(ZoneId.of("UTC"));
-        String yyMM = String.format("%02d%02d",
-                currentYearMonth.getYear() % 100,
-                currentYearMonth.getMonthValue());
+        return itemChangeLog.write((changeSeq, status) -> {
+            item.setChangeSeq(changeSeq);
+            Item savedItem = itemRepository.save(item);
+            eventPublisher.publishEvent(ItemChangeEvent.created(savedItem));
+            return savedItem;
+        });
+    }
 
-        // Generate assetTag
-        String assetTag = generateAssetTag(savedItem, yyMM);
 
-        // Check for duplicates
-        if (itemRepository.findByAssetTag(assetTag).isPresent()) {
-            throw new DuplicateAssetTagException(assetTag); // Triggers rollback
+    // expectedVersion (from If-Match) is checked before any work and again under the write; null skips the check
+    public Item updateItem(Long id, Item itemDetails, Long expectedVersion) {
+        for (int attempt = 1; attempt <= assetTagProperties.getMaxUpdateAttempts(); attempt++) {
+            Item savedItem = tryUpdateItem(id, itemDetails, expectedVersion);
+            if (savedItem != null) {
+                return savedItem;
+            }
+            // Moved to another series since it was read: read it again, so the number is allocated outside the transaction
         }
-
-        // Update managed entity
-        savedItem.setAssetTag(assetTag);
-        savedItem.setQrCode(generateQRCode(assetTag));
-
-        return savedItem;
+        throw new OptimisticLockingFailureException("Item " + id + " kept moving to another series while being updated");
     }
 
+    // null if the item needs a sequence number that was not allocated up front
+    private Item tryUpdateItem(Long id, Item itemDetails, Long expectedVersion) {
+        // A new sequence number is only needed when the item moves to another (department, type) series;
+        // like on create, it is allocated before the write transaction, which must not wait for a second connection
+        Item current = getItemById(id);
+        checkVersion(current, expectedVersion);
+        String yyMM = AssetTags.yearMonthOf(current.getAssetTag());
+        String targetSeries = AssetTags.seriesKey(itemDetails.getAssigningDepartment(), yyMM, itemDetails.getType());
+        Long allocated = targetSeries.equals(seriesOf(current, yyMM)) ? null : assetTagAllocator.next(targetSeries);
 
-    @Transactional
-    public Item updateItem(Long id, Item itemDetails) {
-        return itemRepository.findById(id).map(existingItem -> {
-            // Extract YYMM from existing assetTag
-            String existingAssetTag = existingItem.getAssetTag();
-            if (existingAssetTag == null || existingAssetTag.split("-").length < 5) {
-                throw new IllegalArgumentException("Invalid assetTag format");
+        return itemChangeLog.write((changeSeq, status) -> {
+            Item existingItem = itemRepository.findById(id).orElseThrow(() -> new ItemNotFoundException(id));
+            checkVersion(existingItem, expectedVersion);
+            Item before = existingItem.copy();
+
+            // Same series keeps its number (a subType change only renames the tag); the item may have
+            // been moved concurrently since it was read above, and then needs a number after all
+            long sequence;
+            if (targetSeries.equals(seriesOf(before, yyMM))) {
+                sequence = AssetTags.sequenceOf(before.getAssetTag());
+            } else if (allocated != null) {
+                sequence = allocated;
+            } else {
+                return null;
             }
-            String yyMM = existingAssetTag.split("-")[2];
 
             // Update fields that affect the assetTag
             existingItem.setAssigningDepartment(itemDetails.getAssigningDepartment());
@@ -83,54 +161,142 @@ public class ItemServiceImpl implements ItemService {
             existingItem.setStatus(itemDetails.getStatus());
             existingItem.setDefaultLocation(itemDetails.getDefaultLocation());
 
-            // Generate new assetTag using existing YYMM
-            String newAssetTag = generateAssetTag(existingItem, yyMM);
+            existingItem.setAssetTag(AssetTags.format(existingItem.getAssigningDepartment(), yyMM,
+                    existingItem.getType(), existingItem.getSubType(), sequence));
 
-            // Check for duplicates (excluding current item)
-            Optional<Item> duplicateItem = itemRepository.findByAssetTag(newAssetTag);
-            if (duplicateItem.isPresent() && !duplicateItem.get().getId().equals(id)) {
-                throw new DuplicateAssetTagException(newAssetTag); // Triggers rollback
-            }
+            // Flushed here so the versioned UPDATE runs now and the event carries the new version
+            existingItem.setChangeSeq(changeSeq);
+            Item savedItem = itemRepository.saveAndFlush(existingItem);
+            eventPublisher.publishEvent(ItemChangeEvent.updated(before, savedItem));
 
-            // Update assetTag and QR code
-            existingItem.setAssetTag(newAssetTag);
-            existingItem.setQrCode(generateQRCode(newAssetTag));
+            return savedItem;
+        });
+    }
 
-            return existingItem;
-        }).orElseThrow(() -> new ItemNotFoundException(id));
+    private static void checkVersion(Item item, Long expectedVersion) {
+        if (expectedVersion != null && item.getVersion() != expectedVersion) {
+            throw new ItemVersionMismatchException(item.getId());
+        }
     }
-    
 
     public void deleteItem(Long id) {
-        if(!itemRepository.existsById(id)){
-            throw new ItemNotFoundException(id);
+        itemChangeLog.write((changeSeq, status) -> {
+            Item item = itemRepository.findById(id).orElseThrow(() -> new ItemNotFoundException(id));
+            itemRepository.delete(item);
+            itemChangeLog.recordDeletion(item, changeSeq);
+            eventPublisher.publishEvent(ItemChangeEvent.deleted(item, changeSeq));
+            return null;
+        });
+    }
+
+    // One snapshot for every read: pages stop at the watermark read in it (ItemChangeLog.safeThrough),
+    // so a token never moves past a write that may still commit below it
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public ItemChanges getChanges(String since, Integer size) {
+        // Token: position (changeSeq, id) of the last change returned, and the change number a full sync started at
+        PageCursor after = PageCursor.decode(since, CHANGES_TOKEN);
+        long afterSeq = -1L;
+        long afterId = 0L;
+        long throughSeq = itemChangeLog.safeThrough();
+        long syncedFrom = throughSeq;
+        if (after != null) {
+            String[] values = after.getLastValue().split("/", 2);
+            try {
+                afterSeq = Long.parseLong(values[0]);
+                syncedFrom = Long.parseLong(values[1]);
+            } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+                throw new InvalidCursorException();
+            }
+            afterId = after.getLastId();
+        }
+        int pageSize = paginationProperties.resolve(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Item> items = itemRepository.findChangedAfter(afterSeq, afterId, throughSeq, limit);
+        List<ItemTombstone> tombstones = itemTombstoneRepository.findChangedAfter(afterSeq, afterId, throughSeq, limit);
+        // Tombstones this client still needs are numbered above both its position and its sync start
+        if (after != null && Math.max(afterSeq, syncedFrom) < itemChangeLog.purgedThrough()) {
+            throw new ChangeTokenExpiredException();
         }
-        itemRepository.deleteById(id);
-    }
-
-    // Helper method to generate assetTag
-    private String generateAssetTag(Item item, String yyMM) {
-        String assigningDeptCode = item.getAssigningDepartment().getCode();
-        String typeCode = item.getType().getCode();
-        String subTypeUpper = item.getSubType().toUpperCase();
-        String paddedId = String.format("%04d", item.getId());
-        return String.format("CMX-%s-%s-%s-%s-%s",
-                assigningDeptCode, yyMM, typeCode, subTypeUpper, paddedId);
-    }
-
-
-    // QR Code Generation Method
-    private byte[] generateQRCode(String text) {
-        try {
-            int width = 200;
-            int height = 200;
-            BitMatrix bitMatrix = new MultiFormatWriter().encode(text, BarcodeFormat.QR_CODE, width, height);
-            ByteArrayOutputStream stream = new ByteArrayOutputStream();
-            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", stream);
-            return stream.toByteArray();
-        } catch (Exception e) {
-            // throw new RuntimeException("Failed to generate QR code", e);
-            throw new FailedToGenerateQRException();
+
+        // Merge both lists in (changeSeq, id) order up to the page size
+        List<Item> changed = new ArrayList<>();
+        List<ItemTombstone> deleted = new ArrayList<>();
+        int i = 0, t = 0;
+        while (changed.size() + deleted.size() < pageSize && (i < items.size() || t < tombstones.size())) {
+            boolean takeItem = t == tombstones.size() || (i < items.size()
+                    && compareChange(items.get(i).getChangeSeq(), items.get(i).getId(),
+                            tombstones.get(t).getChangeSeq(), tombstones.get(t).getId()) < 0);
+            if (takeItem) {
+                Item item = items.get(i++);
+                changed.add(item);
+                afterSeq = item.getChangeSeq();
+                afterId = item.getId();
+            } else {
+                ItemTombstone tombstone = tombstones.get(t++);
+                deleted.add(tombstone);
+                afterSeq = tombstone.getChangeSeq();
+                afterId = tombstone.getId();
+            }
+        }
+        boolean hasMore = i < items.size() || t < tombstones.size();
+        String nextToken = new PageCursor(CHANGES_TOKEN, afterId, afterSeq + "/" + syncedFrom).encode();
+        return new ItemChanges(changed, deleted, nextToken, hasMore);
+    }
+
+    // Newest first; kept after the item is deleted, so only an id that never had any history is not found
+    public CursorPage<ItemHistoryEntry> getHistory(Long id, String cursor, Integer size) {
+        PageCursor after = PageCursor.decode(cursor, HISTORY_TOKEN);
+        long beforeSeq = Long.MAX_VALUE;
+        long beforeId = Long.MAX_VALUE;
+        if (after != null) {
+            try {
+                beforeSeq = Long.parseLong(after.getLastValue());
+            } catch (NumberFormatException e) {
+                throw new InvalidCursorException();
+            }
+            beforeId = after.getLastId();
         }
+        int pageSize = paginationProperties.resolve(size);
+
+        List<ItemHistoryEntry> rows = itemHistoryRepository.findPage(id, beforeSeq, beforeId, Limit.of(pageSize + 1));
+        if (after == null && rows.isEmpty() && !itemRepository.existsById(id)) {
+            throw new ItemNotFoundException(id);
+        }
+        return CursorPage.of(rows, pageSize,
+                entry -> new PageCursor(HISTORY_TOKEN, entry.getId(), String.valueOf(entry.getChangeSeq())));
+    }
+
+    private static int compareChange(long seqA, long idA, long seqB, long idB) {
+        return seqA != seqB ? Long.compare(seqA, seqB) : Long.compare(idA, idB);
+    }
+
+    // Ranked hits come from the in-memory index; only the top rows are loaded, by primary key
+    public List<Item> searchItems(String query, Integer limit) {
+        List<ItemSearchIndex.Hit> hits = itemSearchIndex.search(query, paginationProperties.resolve(limit));
+        Map<Long, Item> byId = itemRepository.findAllById(hits.stream().map(hit -> hit.itemId).toList()).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        return hits.stream().map(hit -> byId.get(hit.itemId)).filter(item -> item != null).toList();
+    }
+
+    public ItemStats getStats() {
+        return itemStatsCounters.stats();
+    }
+
+    public QrImage getQrCode(Long id) {
+        return qrCodeService.render(getItemById(id).getAssetTag());
+    }
+
+    private static String seriesOf(Item item, String yyMM) {
+        return AssetTags.seriesKey(item.getAssigningDepartment(), yyMM, item.getType());
+    }
+
+    private static String sortValue(Item item, ItemSortKey sort) {
+        return switch (sort) {
+            case id -> "";
+            case assetTag -> item.getAssetTag();
+            case model -> item.getModel();
+            case status -> item.getStatus();
+        };
     }
 }
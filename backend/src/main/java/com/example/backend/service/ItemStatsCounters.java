@@ -0,0 +1,225 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.dto.ItemStats;
+import com.example.backend.event.ItemChangeEvent;
+import com.example.backend.model.Item;
+import com.example.backend.model.ItemTombstone;
+import com.example.backend.repository.ItemRepository;
+import com.example.backend.repository.ItemTombstoneRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory item counts per department, type, status and location, so GET /api/items/stats
+ * never touches the items table. Counters are adjusted from committed item changes, built
+ * from one GROUP BY at startup and recomputed the same way every item-stats.reconcile-interval.
+ *
+ * Changes committed during a rebuild are replayed on top of the fresh counts, as in
+ * ItemSearchIndex, except those the GROUP BY already saw. The replay runs in the GROUP BY's
+ * snapshot and asks it: writes to one item commit in version order and a delete is the
+ * item's last, so the snapshot contains a change exactly when it holds the item at the
+ * change's version or later, or its tombstone. A change is therefore neither counted twice
+ * nor missed however its commit and its event fall around the query.
+ */
+@Slf4j
+@Component
+public class ItemStatsCounters {
+
+    private static final String NONE = "(none)";
+    private static final int REPLAY_BATCH = 1000;
+
+    private final ItemRepository itemRepository;
+    private final ItemTombstoneRepository itemTombstoneRepository;
+    private final TransactionTemplate snapshotTransaction;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Counts counts = new Counts();
+    private List<ItemChangeEvent> pendingDuringRebuild; // non-null while a rebuild is running
+    private ItemStats snapshot; // last result handed out; dropped on every change
+
+    public ItemStatsCounters(ItemRepository itemRepository, ItemTombstoneRepository itemTombstoneRepository,
+            PlatformTransactionManager transactionManager) {
+        this.itemRepository = itemRepository;
+        this.itemTombstoneRepository = itemTombstoneRepository;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Counts fresh = load();
+        if (fresh != null) {
+            log.info("Item stats built: {} items", fresh.total);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${item-stats.reconcile-interval}", initialDelayString = "${item-stats.reconcile-interval}")
+    public void reconcile() {
+        ItemStats before = stats();
+        Counts fresh = load();
+        if (fresh != null && !fresh.matches(before)) {
+            log.warn("Item stats drifted from the database and were reconciled ({} -> {} items)", before.getTotal(), fresh.total);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onItemChange(ItemChangeEvent event) {
+        lock.lock();
+        try {
+            counts.apply(event);
+            snapshot = null;
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public ItemStats stats() {
+        lock.lock();
+        try {
+            if (snapshot == null) {
+                snapshot = counts.toStats();
+            }
+            return snapshot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Recomputes the counters from the database and swaps them in; null if a rebuild is already running
+    private Counts load() {
+        lock.lock();
+        try {
+            if (pendingDuringRebuild != null) {
+                return null;
+            }
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+
+        Counts fresh = new Counts();
+        try {
+            snapshotTransaction.executeWithoutResult(status -> {
+                itemRepository.countGroups().forEach(group -> fresh.add(
+                        group.getAssigningDepartment() != null ? group.getAssigningDepartment().getDisplayName() : null,
+                        group.getType() != null ? group.getType().getDisplayName() : null,
+                        group.getStatus(), group.getDefaultLocation(), group.getCount()));
+                // What arrived during the GROUP BY is checked outside the lock; what arrived during that, under it
+                List<ItemChangeEvent> replay;
+                lock.lock();
+                try {
+                    replay = pendingDuringRebuild;
+                    pendingDuringRebuild = new ArrayList<>();
+                } finally {
+                    lock.unlock();
+                }
+                replayUnseen(replay, fresh);
+                lock.lock();
+                try {
+                    replayUnseen(pendingDuringRebuild, fresh);
+                    pendingDuringRebuild = null;
+                    counts = fresh;
+                    snapshot = null;
+                } finally {
+                    lock.unlock();
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+        return fresh;
+    }
+
+    // Applies the events the caller's snapshot doesn't contain yet
+    private void replayUnseen(List<ItemChangeEvent> events, Counts fresh) {
+        for (int from = 0; from < events.size(); from += REPLAY_BATCH) {
+            List<ItemChangeEvent> batch = events.subList(from, Math.min(from + REPLAY_BATCH, events.size()));
+            Set<Long> ids = batch.stream().map(ItemChangeEvent::getItemId).collect(Collectors.toSet());
+            Map<Long, Long> versions = itemRepository.findVersionsByIdIn(ids).stream()
+                    .collect(Collectors.toMap(ItemRepository.IdVersion::getId, ItemRepository.IdVersion::getVersion));
+            Set<Long> deleted = itemTombstoneRepository.findAllById(ids).stream().map(ItemTombstone::getId)
+                    .collect(Collectors.toSet());
+            for (ItemChangeEvent event : batch) {
+                boolean seen = deleted.contains(event.getItemId()) || (event.getAfter() != null
+                        && versions.getOrDefault(event.getItemId(), -1L) >= event.getAfter().getVersion());
+                if (!seen) {
+                    fresh.apply(event);
+                }
+            }
+        }
+    }
+
+    private static final class Counts {
+        final Map<String, Long> byDepartment = new HashMap<>();
+        final Map<String, Long> byType = new HashMap<>();
+        final Map<String, Long> byStatus = new HashMap<>();
+        final Map<String, Long> byLocation = new HashMap<>();
+        long total;
+
+        void apply(ItemChangeEvent event) {
+            if (event.getBefore() != null) {
+                add(event.getBefore(), -1);
+            }
+            if (event.getAfter() != null) {
+                add(event.getAfter(), 1);
+            }
+        }
+
+        void add(Item item, long delta) {
+            add(item.getAssigningDepartment() != null ? item.getAssigningDepartment().getDisplayName() : null,
+                    item.getType() != null ? item.getType().getDisplayName() : null,
+                    item.getStatus(), item.getDefaultLocation(), delta);
+        }
+
+        void add(String department, String type, String status, String location, long delta) {
+            total += delta;
+            adjust(byDepartment, department, delta);
+            adjust(byType, type, delta);
+            adjust(byStatus, status, delta);
+            adjust(byLocation, location, delta);
+        }
+
+        private static void adjust(Map<String, Long> counts, String key, long delta) {
+            // Keys whose count drops to zero disappear, so old statuses and locations don't linger
+            counts.merge(key != null ? key : NONE, delta, (a, b) -> a + b == 0 ? null : a + b);
+        }
+
+        boolean matches(ItemStats stats) {
+            return total == stats.getTotal() && byDepartment.equals(stats.getByDepartment()) && byType.equals(stats.getByType())
+                    && byStatus.equals(stats.getByStatus()) && byLocation.equals(stats.getByLocation());
+        }
+
+        ItemStats toStats() {
+            return new ItemStats(total, new TreeMap<>(byDepartment), new TreeMap<>(byType),
+                    new TreeMap<>(byStatus), new TreeMap<>(byLocation));
+        }
+    }
+}
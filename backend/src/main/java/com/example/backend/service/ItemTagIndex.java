@@ -0,0 +1,105 @@
+package com.example.backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.backend.event.ItemChangeEvent;
+import com.example.backend.model.Item;
+import com.example.backend.repository.ItemRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory assetTag -> item id map behind GET /api/items/by-tag/{assetTag}, the QR
+ * scanner's lookup. Built from one projection query at startup and kept current from
+ * committed item changes; writes committed during the build are replayed on top, as in
+ * ItemSearchIndex. Lookups are lock-free.
+ *
+ * Writes made by other instances are not seen here, so callers treat a hit as a hint to
+ * verify and fall back to the database on a miss.
+ */
+@Slf4j
+@Component
+public class ItemTagIndex {
+
+    private final ItemRepository itemRepository;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile Map<String, Long> idByTag = new ConcurrentHashMap<>();
+    private List<ItemChangeEvent> pendingDuringRebuild; // non-null while a rebuild is running
+
+    public ItemTagIndex(ItemRepository itemRepository) {
+        this.itemRepository = itemRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+
+        Map<String, Long> fresh = new ConcurrentHashMap<>();
+        try {
+            itemRepository.findAllTagIds().forEach(row -> fresh.put(row.getAssetTag(), row.getId()));
+        } catch (RuntimeException e) {
+            lock.lock();
+            try {
+                pendingDuringRebuild = null;
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+
+        lock.lock();
+        try {
+            pendingDuringRebuild.forEach(event -> apply(fresh, event));
+            pendingDuringRebuild = null;
+            idByTag = fresh;
+        } finally {
+            lock.unlock();
+        }
+        log.info("Item tag index built: {} tags", fresh.size());
+    }
+
+    @TransactionalEventListener
+    public void onItemChange(ItemChangeEvent event) {
+        lock.lock();
+        try {
+            apply(idByTag, event);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(event);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Item id last seen with this tag, or null
+    public Long lookup(String assetTag) {
+        return assetTag == null ? null : idByTag.get(assetTag);
+    }
+
+    private static void apply(Map<String, Long> idByTag, ItemChangeEvent event) {
+        Item before = event.getBefore();
+        Item after = event.getAfter();
+        // Only drop the old tag if it still points at this item
+        if (before != null && before.getAssetTag() != null) {
+            idByTag.remove(before.getAssetTag(), before.getId());
+        }
+        if (after != null && after.getAssetTag() != null) {
+            idByTag.put(after.getAssetTag(), after.getId());
+        }
+    }
+}
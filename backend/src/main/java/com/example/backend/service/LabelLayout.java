@@ -0,0 +1,84 @@
+package com.example.backend.service;
+
+import com.example.backend.config.LabelProperties;
+import com.example.backend.config.QrCodeProperties;
+import com.example.backend.exception.FailedToGenerateQRException;
+import com.google.zxing.WriterException;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+import com.google.zxing.qrcode.encoder.Encoder;
+
+/**
+ * Where each label goes on a sheet, in points measured from the top-left corner: a grid
+ * of columns x rows cells inside the page margin, each holding a centred QR code with
+ * its asset tag underneath. The QR box includes the qr.margin quiet zone, so codes in
+ * neighbouring cells never run together however tightly the grid is set.
+ */
+final class LabelLayout {
+
+    static final float PADDING = 4;
+    static final float MAX_TEXT_SIZE = 8;
+
+    final float pageWidth;
+    final float pageHeight;
+    final int columns;
+    final int rows;
+    final float cellWidth;
+    final float cellHeight;
+    final float qrSize;      // including the quiet zone
+    final int quietZone;     // in modules
+    private final float margin;
+    private final ErrorCorrectionLevel errorCorrection;
+
+    LabelLayout(LabelProperties properties, QrCodeProperties qrProperties) {
+        this.pageWidth = properties.getPageWidth();
+        this.pageHeight = properties.getPageHeight();
+        this.columns = properties.getColumns();
+        this.rows = properties.getRows();
+        this.margin = properties.getMargin();
+        this.cellWidth = (pageWidth - 2 * margin) / columns;
+        this.cellHeight = (pageHeight - 2 * margin) / rows;
+        this.qrSize = Math.min(cellWidth, cellHeight - MAX_TEXT_SIZE - PADDING) - 2 * PADDING;
+        this.quietZone = qrProperties.getMargin();
+        this.errorCorrection = qrProperties.getErrorCorrection();
+    }
+
+    int perPage() {
+        return columns * rows;
+    }
+
+    float cellLeft(int index) {
+        return margin + (index % columns) * cellWidth;
+    }
+
+    float cellTop(int index) {
+        return margin + (index / columns) * cellHeight;
+    }
+
+    float qrLeft(int index) {
+        return cellLeft(index) + (cellWidth - qrSize) / 2;
+    }
+
+    float qrTop(int index) {
+        return cellTop(index) + PADDING;
+    }
+
+    // Baseline of the asset tag line, just under the QR code
+    float textBaseline(int index) {
+        return qrTop(index) + qrSize + PADDING + MAX_TEXT_SIZE * 0.75f;
+    }
+
+    // Size of one module for a code of the given width, so that code plus quiet zone fill the QR box
+    float moduleSize(int modules) {
+        return qrSize / (modules + 2 * quietZone);
+    }
+
+    // The bare module matrix (1 = dark), without the quiet zone
+    ByteMatrix encode(String assetTag) {
+        try {
+            return Encoder.encode(assetTag, errorCorrection).getMatrix();
+        } catch (WriterException e) {
+            throw new FailedToGenerateQRException();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.backend.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * One output format for label sheets. renderPage is called for many pages at once from
+ * the render pool and must not touch shared state; begin, writePage and finish run on
+ * the request thread, with pages handed over in order.
+ */
+interface LabelSheet {
+
+    byte[] renderPage(List<String> assetTags);
+
+    void begin(OutputStream out) throws IOException;
+
+    void writePage(byte[] page) throws IOException;
+
+    void finish() throws IOException;
+}
@@ -0,0 +1,8 @@
+package com.example.backend.service;
+
+public interface PasswordHashingService {
+
+    public String encode(String rawPassword);
+    public boolean matches(String rawPassword, String encodedPassword);
+    public boolean needsRehash(String encodedPassword);
+}
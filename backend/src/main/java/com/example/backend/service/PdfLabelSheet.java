@@ -0,0 +1,203 @@
+package com.example.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+
+/**
+ * Label sheets as a PDF written front to back, one page at a time. QR codes are drawn as
+ * filled rectangles (one per run of dark modules in a row), so they print sharp at any
+ * resolution and a page of labels is a few kilobytes; the asset tag is set in Helvetica,
+ * one of the standard fonts every reader has, so nothing is embedded.
+ *
+ * The page tree and catalog only list what came before them, so they are written last,
+ * followed by the cross-reference table of every object's offset.
+ */
+final class PdfLabelSheet implements LabelSheet {
+
+    private static final int CATALOG = 1, PAGES = 2, FONT = 3;
+
+    // Helvetica advance widths (1/1000 em) for the characters asset tags are made of
+    private static final int[] UPPERCASE_WIDTHS = {667, 667, 722, 722, 667, 611, 778, 722, 278, 500, 667, 556, 833,
+            722, 778, 667, 778, 722, 667, 611, 722, 667, 944, 667, 667, 611};
+    private static final int DIGIT_WIDTH = 556, HYPHEN_WIDTH = 333, OTHER_WIDTH = 556;
+
+    private final LabelLayout layout;
+
+    private OutputStream out;
+    private long position;
+    private final List<Long> offsets = new ArrayList<>(); // by object number - 1
+    private final List<Integer> pageObjects = new ArrayList<>();
+
+    PdfLabelSheet(LabelLayout layout) {
+        this.layout = layout;
+    }
+
+    @Override
+    public byte[] renderPage(List<String> assetTags) {
+        StringBuilder content = new StringBuilder(assetTags.size() * 4096);
+        content.append("0 g\n");
+        for (int i = 0; i < assetTags.size(); i++) {
+            String assetTag = assetTags.get(i);
+            drawCode(content, layout.encode(assetTag), i);
+            drawTag(content, assetTag, i);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(content.length() / 4);
+        try (DeflaterOutputStream deflater = new DeflaterOutputStream(bytes)) {
+            deflater.write(content.toString().getBytes(StandardCharsets.ISO_8859_1));
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // in-memory stream
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public void begin(OutputStream out) throws IOException {
+        this.out = out;
+        offsets.add(null); // catalog and page tree come last
+        offsets.add(null);
+        write("%PDF-1.4\n%âãÏÓ\n");
+        startObject(FONT);
+        write("<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>\nendobj\n");
+    }
+
+    @Override
+    public void writePage(byte[] page) throws IOException {
+        int pageObject = offsets.size() + 1;
+        int contentObject = pageObject + 1;
+        pageObjects.add(pageObject);
+
+        startObject(pageObject);
+        write("<< /Type /Page /Parent " + PAGES + " 0 R /MediaBox [0 0 " + number(layout.pageWidth) + " " + number(layout.pageHeight)
+                + "] /Resources << /Font << /F1 " + FONT + " 0 R >> >> /Contents " + contentObject + " 0 R >>\nendobj\n");
+        startObject(contentObject);
+        write("<< /Length " + page.length + " /Filter /FlateDecode >>\nstream\n");
+        out.write(page);
+        position += page.length;
+        write("\nendstream\nendobj\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        StringBuilder kids = new StringBuilder();
+        for (int pageObject : pageObjects) {
+            kids.append(pageObject).append(" 0 R ");
+        }
+        startObject(PAGES);
+        write("<< /Type /Pages /Kids [" + kids + "] /Count " + pageObjects.size() + " >>\nendobj\n");
+        startObject(CATALOG);
+        write("<< /Type /Catalog /Pages " + PAGES + " 0 R >>\nendobj\n");
+
+        long xref = position;
+        StringBuilder table = new StringBuilder("xref\n0 " + (offsets.size() + 1) + "\n0000000000 65535 f \n");
+        for (long offset : offsets) {
+            table.append(String.format("%010d 00000 n \n", offset));
+        }
+        table.append("trailer\n<< /Size ").append(offsets.size() + 1).append(" /Root ").append(CATALOG).append(" 0 R >>\n")
+                .append("startxref\n").append(xref).append("\n%%EOF\n");
+        write(table.toString());
+        out.flush();
+    }
+
+    private void startObject(int number) throws IOException {
+        while (offsets.size() < number) {
+            offsets.add(null);
+        }
+        offsets.set(number - 1, position);
+        write(number + " 0 obj\n");
+    }
+
+    private void write(String text) throws IOException {
+        byte[] bytes = text.getBytes(StandardCharsets.ISO_8859_1);
+        out.write(bytes);
+        position += bytes.length;
+    }
+
+    private void drawCode(StringBuilder content, ByteMatrix matrix, int index) {
+        int modules = matrix.getWidth();
+        float module = layout.moduleSize(modules);
+        float left = layout.qrLeft(index) + layout.quietZone * module;
+        float top = layout.pageHeight - layout.qrTop(index) - layout.quietZone * module; // PDF y grows upwards
+        for (int y = 0; y < modules; y++) {
+            int x = 0;
+            while (x < modules) {
+                if (matrix.get(x, y) != 1) {
+                    x++;
+                    continue;
+                }
+                int start = x;
+                while (x < modules && matrix.get(x, y) == 1) {
+                    x++;
+                }
+                appendNumber(content, left + start * module);
+                appendNumber(content, top - (y + 1) * module);
+                appendNumber(content, (x - start) * module);
+                appendNumber(content, module);
+                content.append("re\n");
+            }
+        }
+        content.append("f\n");
+    }
+
+    private void drawTag(StringBuilder content, String assetTag, int index) {
+        int width = 0;
+        for (int i = 0; i < assetTag.length(); i++) {
+            width += widthOf(assetTag.charAt(i));
+        }
+        // Long tags are set smaller rather than running into the next cell
+        float size = Math.min(LabelLayout.MAX_TEXT_SIZE, (layout.cellWidth - 2 * LabelLayout.PADDING) * 1000 / Math.max(width, 1));
+        float x = layout.cellLeft(index) + (layout.cellWidth - width * size / 1000) / 2;
+        content.append("BT /F1 ");
+        appendNumber(content, size);
+        content.append("Tf ");
+        appendNumber(content, x);
+        appendNumber(content, layout.pageHeight - layout.textBaseline(index));
+        content.append("Td (");
+        for (int i = 0; i < assetTag.length(); i++) {
+            char c = assetTag.charAt(i);
+            if (c == '(' || c == ')' || c == '\\') {
+                content.append('\\');
+            }
+            content.append(c < 128 ? c : '?');
+        }
+        content.append(") Tj ET\n");
+    }
+
+    private static int widthOf(char c) {
+        if (c >= 'A' && c <= 'Z') {
+            return UPPERCASE_WIDTHS[c - 'A'];
+        }
+        if (c >= '0' && c <= '9') {
+            return DIGIT_WIDTH;
+        }
+        return c == '-' ? HYPHEN_WIDTH : OTHER_WIDTH;
+    }
+
+    // Two decimals and a trailing space, without String.format: a page has thousands of these
+    private static void appendNumber(StringBuilder content, float value) {
+        int hundredths = Math.round(value * 100);
+        if (hundredths < 0) {
+            content.append('-');
+            hundredths = -hundredths;
+        }
+        content.append(hundredths / 100).append('.');
+        int fraction = hundredths % 100;
+        if (fraction < 10) {
+            content.append('0');
+        }
+        content.append(fraction).append(' ');
+    }
+
+    private static String number(float value) {
+        StringBuilder text = new StringBuilder();
+        appendNumber(text, value);
+        return text.toString().trim();
+    }
+}
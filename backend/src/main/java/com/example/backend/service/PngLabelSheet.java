@@ -0,0 +1,123 @@
+package com.example.backend.service;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.imageio.ImageIO;
+
+import com.google.zxing.qrcode.encoder.ByteMatrix;
+
+/**
+ * Label sheets as a zip with one black-and-white PNG per page, at labels.png-dpi. Every
+ * module is a whole number of pixels so codes stay crisp; that can leave a code slightly
+ * smaller than its box. Entries are stored, not deflated: PNG data is compressed already.
+ */
+final class PngLabelSheet implements LabelSheet {
+
+    private final LabelLayout layout;
+    private final float scale; // pixels per point
+
+    private ZipOutputStream zip;
+    private int pages;
+
+    PngLabelSheet(LabelLayout layout, int dpi) {
+        this.layout = layout;
+        this.scale = dpi / 72f;
+    }
+
+    @Override
+    public byte[] renderPage(List<String> assetTags) {
+        BufferedImage image = new BufferedImage(Math.round(layout.pageWidth * scale), Math.round(layout.pageHeight * scale),
+                BufferedImage.TYPE_BYTE_BINARY);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+            graphics.setColor(Color.BLACK);
+            for (int i = 0; i < assetTags.size(); i++) {
+                drawCode(graphics, layout.encode(assetTags.get(i)), i);
+                drawTag(graphics, assetTags.get(i), i);
+            }
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", bytes);
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // in-memory stream
+        }
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public void begin(OutputStream out) {
+        zip = new ZipOutputStream(out);
+    }
+
+    @Override
+    public void writePage(byte[] page) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(page);
+        ZipEntry entry = new ZipEntry(String.format("labels-%04d.png", ++pages));
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(page.length);
+        entry.setCrc(crc.getValue());
+        zip.putNextEntry(entry);
+        zip.write(page);
+        zip.closeEntry();
+    }
+
+    @Override
+    public void finish() throws IOException {
+        zip.finish();
+    }
+
+    private void drawCode(Graphics2D graphics, ByteMatrix matrix, int index) {
+        int modules = matrix.getWidth();
+        int module = Math.max(1, (int) (layout.moduleSize(modules) * scale));
+        int size = module * (modules + 2 * layout.quietZone);
+        // Centred in the QR box; the whole-pixel rounding is split evenly around the code
+        int left = Math.round((layout.qrLeft(index) + layout.qrSize / 2) * scale) - size / 2 + layout.quietZone * module;
+        int top = Math.round((layout.qrTop(index) + layout.qrSize / 2) * scale) - size / 2 + layout.quietZone * module;
+        for (int y = 0; y < modules; y++) {
+            int x = 0;
+            while (x < modules) {
+                if (matrix.get(x, y) != 1) {
+                    x++;
+                    continue;
+                }
+                int start = x;
+                while (x < modules && matrix.get(x, y) == 1) {
+                    x++;
+                }
+                graphics.fillRect(left + start * module, top + y * module, (x - start) * module, module);
+            }
+        }
+    }
+
+    private void drawTag(Graphics2D graphics, String assetTag, int index) {
+        Font font = new Font(Font.SANS_SERIF, Font.PLAIN, Math.round(LabelLayout.MAX_TEXT_SIZE * scale));
+        FontMetrics metrics = graphics.getFontMetrics(font);
+        float maxWidth = (layout.cellWidth - 2 * LabelLayout.PADDING) * scale;
+        if (metrics.stringWidth(assetTag) > maxWidth) {
+            // Long tags are set smaller rather than running into the next cell
+            font = font.deriveFont(font.getSize2D() * maxWidth / metrics.stringWidth(assetTag));
+            metrics = graphics.getFontMetrics(font);
+        }
+        graphics.setFont(font);
+        int x = Math.round((layout.cellLeft(index) + layout.cellWidth / 2) * scale) - metrics.stringWidth(assetTag) / 2;
+        graphics.drawString(assetTag, x, Math.round(layout.textBaseline(index) * scale));
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.backend.service;
+
+import com.example.backend.dto.QrImage;
+
+public interface QrCodeService {
+
+    public QrImage render(String text);
+}
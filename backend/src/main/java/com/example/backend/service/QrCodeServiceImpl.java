@@ -0,0 +1,103 @@
+package com.example.backend.service;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import com.example.backend.config.QrCodeProperties;
+import com.example.backend.dto.QrImage;
+import com.example.backend.exception.FailedToGenerateQRException;
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.MultiFormatWriter;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Renders QR images on demand instead of persisting them. Recently used images are
+ * kept in an LRU cache bounded by total PNG bytes (qr.cache-max-bytes).
+ */
+@Service
+public class QrCodeServiceImpl implements QrCodeService {
+
+    private final QrCodeProperties properties;
+    private final Map<String, QrImage> cache = new LinkedHashMap<>(256, 0.75f, true);
+    private long cachedBytes;
+
+    private final Timer renderTimer;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    public QrCodeServiceImpl(QrCodeProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.renderTimer = Timer.builder("qr.render").publishPercentileHistogram().register(registry);
+        this.cacheHits = Counter.builder("qr.cache").tag("result", "hit").register(registry);
+        this.cacheMisses = Counter.builder("qr.cache").tag("result", "miss").register(registry);
+        Gauge.builder("qr.cache.bytes", this, QrCodeServiceImpl::cachedBytes).register(registry);
+    }
+
+    public QrImage render(String text) {
+        QrImage cached = lookup(text);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+        cacheMisses.increment();
+        // Render outside the lock; two threads racing on the same text produce identical bytes
+        byte[] png = renderTimer.record(() -> generateQRCode(text));
+        QrImage image = new QrImage(png, DigestUtils.md5DigestAsHex(png));
+        store(text, image);
+        return image;
+    }
+
+    private synchronized long cachedBytes() {
+        return cachedBytes;
+    }
+
+    private synchronized QrImage lookup(String text) {
+        return cache.get(text);
+    }
+
+    private synchronized void store(String text, QrImage image) {
+        long size = image.getPng().length;
+        if (size > properties.getCacheMaxBytes()) {
+            return;
+        }
+        QrImage previous = cache.put(text, image);
+        if (previous != null) {
+            cachedBytes -= previous.getPng().length;
+        }
+        cachedBytes += size;
+
+        // Evict least recently used entries until back under the byte budget
+        Iterator<QrImage> eldest = cache.values().iterator();
+        while (cachedBytes > properties.getCacheMaxBytes() && eldest.hasNext()) {
+            cachedBytes -= eldest.next().getPng().length;
+            eldest.remove();
+        }
+    }
+
+    private byte[] generateQRCode(String text) {
+        try {
+            Map<EncodeHintType, Object> hints = Map.of(
+                    EncodeHintType.ERROR_CORRECTION, properties.getErrorCorrection(),
+                    EncodeHintType.MARGIN, properties.getMargin());
+            BitMatrix bitMatrix = new MultiFormatWriter().encode(text, BarcodeFormat.QR_CODE,
+                    properties.getSize(), properties.getSize(), hints);
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            MatrixToImageWriter.writeToStream(bitMatrix, "PNG", stream);
+            return stream.toByteArray();
+        } catch (Exception e) {
+            throw new FailedToGenerateQRException();
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.example.backend.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.Session;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.config.RetagJobProperties;
+import com.example.backend.event.ItemChangeEvent;
+import com.example.backend.model.Department;
+import com.example.backend.model.Item;
+import com.example.backend.model.RetagJob;
+import com.example.backend.model.RetagJobChunk;
+import com.example.backend.model.Type;
+import com.example.backend.repository.ItemRepository;
+import com.example.backend.repository.RetagJobChunkRepository;
+import com.example.backend.repository.RetagJobRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Works through the chunks of running retag jobs, retag-jobs.parallelism chunks of a job
+ * at a time.
+ *
+ * Each chunk is one transaction: its items are re-read, given their new department, type,
+ * subType and asset tag exactly as PUT /api/items/{id} would, written as one JDBC batch
+ * under one change number (like an import chunk), and the chunk is marked done in the same
+ * commit. A chunk is therefore applied once or not at all, whatever happens to the
+ * instance. Items already carrying the target values are counted as unchanged. Like every
+ * item write, chunks commit one at a time on the change counter (ItemChangeLog); running
+ * them in parallel overlaps the rest: reading, tag reservation and building the batch.
+ *
+ * A job is owned by one instance at a time through a lease on its row, renewed every
+ * retag-jobs.poll-interval. Every instance polls for running jobs that nobody holds (the
+ * owner stopped, or was stopped before finishing) and takes them over, continuing with
+ * their pending chunks. QR images need no re-rendering: they are drawn from the asset tag
+ * on request, and the new tag gives each item a new qrCodeUrl.
+ */
+@Slf4j
+@Component
+public class RetagJobRunner {
+
+    private final ItemRepository itemRepository;
+    private final RetagJobRepository retagJobRepository;
+    private final RetagJobChunkRepository retagJobChunkRepository;
+    private final RetagJobProperties properties;
+    private final AssetTagAllocator assetTagAllocator;
+    private final ItemChangeLog itemChangeLog;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final Timer chunkTimer;
+
+    private final String owner = UUID.randomUUID().toString();
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<Long, RunningJob> running = new ConcurrentHashMap<>();
+    private volatile boolean stopping;
+
+    public RetagJobRunner(ItemRepository itemRepository, RetagJobRepository retagJobRepository,
+            RetagJobChunkRepository retagJobChunkRepository, RetagJobProperties properties,
+            AssetTagAllocator assetTagAllocator, ItemChangeLog itemChangeLog, ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate, EntityManager entityManager, MeterRegistry registry) {
+        this.itemRepository = itemRepository;
+        this.retagJobRepository = retagJobRepository;
+        this.retagJobChunkRepository = retagJobChunkRepository;
+        this.properties = properties;
+        this.assetTagAllocator = assetTagAllocator;
+        this.itemChangeLog = itemChangeLog;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.chunkTimer = Timer.builder("retag.chunk").publishPercentileHistogram().register(registry);
+        Gauge.builder("retag.jobs.running", running, Map::size).register(registry);
+    }
+
+    private static final class RunningJob {
+        final RetagJob job;
+        final Queue<RetagJobChunk> pending;
+        final AtomicInteger workers = new AtomicInteger();
+        volatile boolean lost;
+
+        RunningJob(RetagJob job, List<RetagJobChunk> pending) {
+            this.job = job;
+            this.pending = new ConcurrentLinkedQueue<>(pending);
+        }
+    }
+
+    // Starts working on the job here, unless another instance holds it
+    public void launch(long jobId) {
+        if (stopping || running.containsKey(jobId)) {
+            return;
+        }
+        Instant now = Instant.now();
+        Integer claimed = transactionTemplate.execute(status -> retagJobRepository.claim(jobId, RetagJob.State.running, owner,
+                now, now.plus(properties.getLeaseDuration())));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+
+        RetagJob job = retagJobRepository.findById(jobId).orElseThrow();
+        RunningJob run = new RunningJob(job, retagJobChunkRepository.findByJobIdAndStateOrderById(jobId, RetagJobChunk.State.pending));
+        if (run.pending.isEmpty()) {
+            finish(run);
+            return;
+        }
+        log.info("Retag job {}: {} of {} chunks to go", jobId, run.pending.size(), job.getTotalChunks());
+        running.put(jobId, run);
+        int count = Math.min(Math.max(properties.getParallelism(), 1), run.pending.size());
+        run.workers.set(count);
+        for (int i = 0; i < count; i++) {
+            workers.execute(() -> work(run));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${retag-jobs.poll-interval}")
+    public void poll() {
+        if (stopping) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (RunningJob run : running.values()) {
+            Integer renewed = transactionTemplate.execute(status -> retagJobRepository.renew(run.job.getId(), owner,
+                    now.plus(properties.getLeaseDuration())));
+            if (renewed == null || renewed == 0) {
+                log.warn("Retag job {}: lease lost, leaving it to its new owner", run.job.getId());
+                run.lost = true;
+            }
+        }
+        for (long jobId : retagJobRepository.findUnclaimed(RetagJob.State.running, now)) {
+            launch(jobId);
+        }
+    }
+
+    // Lets chunks in progress commit, then hands the unfinished jobs back for any instance to take over
+    @EventListener(ContextClosedEvent.class)
+    public void stop() throws InterruptedException {
+        stopping = true;
+        workers.shutdown();
+        if (!workers.awaitTermination(properties.getPollInterval().toMillis(), TimeUnit.MILLISECONDS)) {
+            workers.shutdownNow();
+        }
+        transactionTemplate.executeWithoutResult(status -> retagJobRepository.releaseAll(owner));
+    }
+
+    private void work(RunningJob run) {
+        try {
+            RetagJobChunk chunk;
+            while (!stopping && !run.lost && (chunk = run.pending.poll()) != null) {
+                if (!process(run.job, chunk)) {
+                    run.lost = true;
+                }
+            }
+        } finally {
+            if (run.workers.decrementAndGet() == 0) {
+                running.remove(run.job.getId());
+                if (!stopping && !run.lost) {
+                    finish(run);
+                }
+            }
+        }
+    }
+
+    // False if the chunk had been finished elsewhere, i.e. another instance has taken the job over
+    private boolean process(RetagJob job, RetagJobChunk chunk) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Boolean ours = chunkTimer.record(() -> retagChunk(job, chunk));
+                return Boolean.TRUE.equals(ours);
+            } catch (ConcurrencyFailureException e) {
+                // An item of the chunk was written concurrently; the next attempt starts from a fresh read
+                if (attempt < properties.getMaxAttempts()) {
+                    continue;
+                }
+                return fail(job, chunk, e);
+            } catch (RuntimeException e) {
+                return fail(job, chunk, e);
+            }
+        }
+    }
+
+    private Boolean retagChunk(RetagJob job, RetagJobChunk chunk) {
+        // Numbers for items moving to another series are reserved before the write transaction (see AssetTagAllocator)
+        Map<String, long[]> reserved = reserveSequences(job, findItems(job, chunk));
+
+        return itemChangeLog.write((changeSeq, status) -> {
+            List<Item> items = findItems(job, chunk);
+            entityManager.unwrap(Session.class).setJdbcBatchSize(properties.getChunkSize());
+
+            List<Item> before = new ArrayList<>();
+            List<Item> changed = new ArrayList<>();
+            for (Item item : items) {
+                Item copy = item.copy();
+                if (retag(job, item, reserved)) {
+                    item.setChangeSeq(changeSeq);
+                    before.add(copy);
+                    changed.add(item);
+                }
+            }
+            // One batch of versioned UPDATEs; flushed here so the events carry the new versions
+            itemRepository.flush();
+            for (int i = 0; i < changed.size(); i++) {
+                eventPublisher.publishEvent(ItemChangeEvent.updated(before.get(i), changed.get(i), job.getCreatedBy()));
+            }
+
+            if (retagJobChunkRepository.finish(chunk.getId(), RetagJobChunk.State.done, null, RetagJobChunk.State.pending) == 0) {
+                status.setRollbackOnly();
+                return false;
+            }
+            retagJobRepository.recordCompletedChunk(job.getId(), changed.size(), items.size() - changed.size());
+            return true;
+        });
+    }
+
+    private List<Item> findItems(RetagJob job, RetagJobChunk chunk) {
+        return itemRepository.findInRange(job.getFilterDepartment(), job.getFilterType(), job.getFilterStatus(),
+                job.getFilterLocation(), chunk.getFirstId(), chunk.getLastId());
+    }
+
+    private Map<String, long[]> reserveSequences(RetagJob job, List<Item> items) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (Item item : items) {
+            String yyMM = AssetTags.yearMonthOf(item.getAssetTag());
+            String targetSeries = AssetTags.seriesKey(departmentFor(job, item), yyMM, typeFor(job, item));
+            if (!targetSeries.equals(AssetTags.seriesKey(item.getAssigningDepartment(), yyMM, item.getType()))) {
+                counts.merge(targetSeries, 1, Integer::sum);
+            }
+        }
+        Map<String, long[]> reserved = new HashMap<>();
+        counts.forEach((seriesKey, count) -> {
+            long start = assetTagAllocator.reserve(seriesKey, count);
+            reserved.put(seriesKey, new long[] {start, start + count});
+        });
+        return reserved;
+    }
+
+    // Same rules as ItemServiceImpl.updateItem: the tag keeps its month, and its number within the same series
+    private boolean retag(RetagJob job, Item item, Map<String, long[]> reserved) {
+        Department department = departmentFor(job, item);
+        Type type = typeFor(job, item);
+        String subType = job.getSubType() != null ? job.getSubType() : item.getSubType();
+        String yyMM = AssetTags.yearMonthOf(item.getAssetTag());
+        String targetSeries = AssetTags.seriesKey(department, yyMM, type);
+
+        long sequence;
+        if (targetSeries.equals(AssetTags.seriesKey(item.getAssigningDepartment(), yyMM, item.getType()))) {
+            sequence = AssetTags.sequenceOf(item.getAssetTag());
+        } else {
+            // The item may have moved since the numbers were reserved. Allocating here would need a second
+            // connection inside the write transaction, so the chunk is rolled back and reserved again instead
+            long[] range = reserved.get(targetSeries);
+            if (range == null || range[0] == range[1]) {
+                throw new ConcurrencyFailureException("Item " + item.getId() + " moved to another series during the chunk");
+            }
+            sequence = range[0]++;
+        }
+        String assetTag = AssetTags.format(department, yyMM, type, subType, sequence);
+        if (assetTag.equals(item.getAssetTag()) && subType.equals(item.getSubType())) {
+            return false;
+        }
+        item.setAssigningDepartment(department);
+        item.setType(type);
+        item.setSubType(subType);
+        item.setAssetTag(assetTag);
+        return true;
+    }
+
+    private static Department departmentFor(RetagJob job, Item item) {
+        return job.getAssigningDepartment() != null ? job.getAssigningDepartment() : item.getAssigningDepartment();
+    }
+
+    private static Type typeFor(RetagJob job, Item item) {
+        return job.getType() != null ? job.getType() : item.getType();
+    }
+
+    private boolean fail(RetagJob job, RetagJobChunk chunk, RuntimeException e) {
+        log.warn("Retag job {}: chunk of ids {}-{} failed", job.getId(), chunk.getFirstId(), chunk.getLastId(), e);
+        String error = "Items " + chunk.getFirstId() + "-" + chunk.getLastId() + ": " + e.getMessage();
+        String message = error.length() > 1000 ? error.substring(0, 1000) : error;
+        Boolean ours = transactionTemplate.execute(status -> {
+            if (retagJobChunkRepository.finish(chunk.getId(), RetagJobChunk.State.failed, message, RetagJobChunk.State.pending) == 0) {
+                return false;
+            }
+            retagJobRepository.recordFailedChunk(job.getId(), message);
+            return true;
+        });
+        return Boolean.TRUE.equals(ours);
+    }
+
+    private void finish(RunningJob run) {
+        transactionTemplate.executeWithoutResult(status -> retagJobRepository.findById(run.job.getId())
+                .filter(job -> owner.equals(job.getOwner()))
+                .ifPresent(job -> {
+                    job.setState(job.getFailedChunks() > 0 ? RetagJob.State.failed : RetagJob.State.completed);
+                    job.setFinishedAt(Instant.now());
+                    job.setOwner(null);
+                    job.setLeaseUntil(null);
+                    log.info("Retag job {} {}: {} items retagged, {} unchanged, {} of {} chunks failed", job.getId(),
+                            job.getState(), job.getRetagged(), job.getUnchanged(), job.getFailedChunks(), job.getTotalChunks());
+                }));
+    }
+}
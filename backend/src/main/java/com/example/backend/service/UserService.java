@@ -1,12 +1,12 @@
 package com.example.backend.service;
 
-import java.util.List;
-
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.UserSortKey;
 import com.example.backend.model.Role;
 import com.example.backend.model.User;
 
 public interface UserService {
-    public List<User> getAllUsers();
+    public CursorPage<User> getUsers(UserSortKey sort, String cursor, Integer size);
     public User getUserById(Long id);
     public User createUser(User user);
     public User updateUser(Long id, User user);
@@ -1,5 +1,9 @@
 package com.example.backend.service;
 
+import com.example.backend.config.PaginationProperties;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.PageCursor;
+import com.example.backend.dto.UserSortKey;
 import com.example.backend.exception.DuplicateEmailException;
 import com.example.backend.exception.UserNotFoundException;
 import com.example.backend.model.Role;
@@ -8,6 +12,7 @@ import com.example.backend.repository.UserRepository;
 
 import lombok.AllArgsConstructor;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,9 +22,22 @@ import java.util.List;
 public class UserServiceImpl implements UserService {
     
     private UserRepository userRepository;
+    private PaginationProperties paginationProperties;
+    private PasswordHashingService passwordHashingService;
 
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public CursorPage<User> getUsers(UserSortKey sort, String cursor, Integer size) {
+        PageCursor after = PageCursor.decode(cursor, sort.name());
+        long afterId = after != null ? after.getLastId() : 0L;
+        int pageSize = paginationProperties.resolve(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<User> rows = switch (sort) {
+            case id -> userRepository.findPageOrderById(afterId, limit);
+            case email -> userRepository.findPageOrderByEmail(after != null ? after.getLastValue() : "", afterId, limit);
+        };
+
+        return CursorPage.of(rows, pageSize,
+                user -> new PageCursor(sort.name(), user.getId(), sort == UserSortKey.email ? user.getEmail() : ""));
     }
 
     public User getUserById(Long id) {
@@ -34,6 +52,7 @@ public class UserServiceImpl implements UserService {
             throw new DuplicateEmailException(user.getEmail());
         });
 
+        user.setPassword(passwordHashingService.encode(user.getPassword()));
         return userRepository.save(user);
     }
 
@@ -47,7 +66,7 @@ public class UserServiceImpl implements UserService {
     public User updateUser(Long id, User updatedUser) {
         return userRepository.findById(id).map(existingUser -> {
             existingUser.setEmail(updatedUser.getEmail());
-            existingUser.setPassword(updatedUser.getPassword());
+            existingUser.setPassword(passwordHashingService.encode(updatedUser.getPassword()));
             
             return userRepository.save(existingUser);
             
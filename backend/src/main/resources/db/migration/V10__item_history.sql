@@ -0,0 +1,14 @@
+-- Item change history (GET /api/items/{id}/history), appended in batches by ItemHistoryWriter after
+-- each write commits. Rows are never updated or deleted, and outlive the item they describe.
+create table item_history (
+    id bigint not null auto_increment,
+    item_id bigint not null,
+    change_seq bigint not null,
+    kind enum ('CREATED','UPDATED','DELETED') not null,
+    user_id bigint,
+    changed_at datetime(6) not null,
+    changes text not null,
+    primary key (id),
+    -- "item_id = ? and (change_seq, id) < (?, ?) order by change_seq desc, id desc"
+    index idx_item_history_item_id_change_seq (item_id, change_seq)
+) engine=InnoDB;
@@ -0,0 +1,3 @@
+-- Databases that ran with ddl-auto=update while rendered QR images were stored per item got an
+-- item_qr_codes table; the images are rendered on demand now (see V4) and nothing reads it
+drop table if exists item_qr_codes;
@@ -0,0 +1,7 @@
+-- Change numbers handed out to item writes that haven't committed or rolled back yet (see ItemChangeLog).
+-- A write removes its row in its own transaction; GET /api/items/changes reads only below the lowest one.
+create table item_changes_in_flight (
+    change_seq bigint not null,
+    started_at datetime(6) not null,
+    primary key (change_seq)
+) engine=InnoDB;
@@ -0,0 +1,12 @@
+-- Item changes committed but not yet appended to item_history (see ItemHistoryWriter). Each write inserts
+-- its rows in its own transaction and the history writer deletes them as it appends the entries, so a
+-- change whose entry never got written (queue full, instance gone) is still known and is recorded as a gap.
+create table item_history_pending (
+    item_id bigint not null,
+    change_seq bigint not null,
+    kind enum ('CREATED','UPDATED','DELETED') not null,
+    user_id bigint,
+    changed_at datetime(6) not null,
+    primary key (item_id, change_seq),
+    index idx_item_history_pending_changed_at (changed_at)
+) engine=InnoDB;
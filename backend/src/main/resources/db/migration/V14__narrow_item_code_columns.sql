@@ -0,0 +1,10 @@
+-- Narrows assigning_department and type to char(2), as Item maps them, where that is free: on a database
+-- with no items yet (a fresh install) the ALTER has nothing to copy. A populated table keeps varchar(255)
+-- here, since the copy would block writes for the whole migration; it is narrowed online once
+-- ItemCodeBackfill is done (backend/db/maintenance/narrow-item-code-columns.sql).
+set @narrow_item_codes = if(exists(select 1 from items),
+    'do 0',
+    'alter table items modify assigning_department char(2), modify type char(2)');
+prepare narrow_item_codes from @narrow_item_codes;
+execute narrow_item_codes;
+deallocate prepare narrow_item_codes;
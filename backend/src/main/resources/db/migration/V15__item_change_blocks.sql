@@ -0,0 +1,13 @@
+-- Change numbers are reserved in blocks (see ItemChangeLog), so writes no longer record each number they
+-- take. A block's row says how far its writes have all finished; GET /api/items/changes reads only up to
+-- the lowest of them. A row whose lease runs out belonged to an instance that went away and is deleted.
+drop table item_changes_in_flight;
+
+create table item_change_blocks (
+    block_start bigint not null,
+    block_end bigint not null,
+    safe_through bigint not null,
+    leased_until datetime(6) not null,
+    primary key (block_start),
+    index idx_item_change_blocks_leased_until (leased_until)
+) engine=InnoDB;
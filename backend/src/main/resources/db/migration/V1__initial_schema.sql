@@ -0,0 +1,28 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update.
+-- Existing databases are baselined at this version (spring.flyway.baseline-on-migrate) and start at V2.
+
+create table items (
+    id bigint not null auto_increment,
+    assigning_department varchar(255),
+    asset_tag varchar(255),
+    type varchar(255),
+    sub_type varchar(255),
+    serial varchar(255),
+    model varchar(255),
+    status varchar(255),
+    default_location varchar(255),
+    qr_code longblob,
+    primary key (id),
+    constraint uk_items_asset_tag unique (asset_tag)
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    name varchar(255),
+    email varchar(255) not null,
+    password varchar(255) not null,
+    role enum ('user','admin','superadmin'),
+    primary key (id),
+    -- Also the index behind UserRepository.findByEmail and the email-ordered user pages
+    constraint uk_users_email unique (email)
+) engine=InnoDB;
@@ -0,0 +1,7 @@
+-- Hi-lo block high-water marks per asset tag series (see AssetTagAllocator).
+-- May already exist where ddl-auto=update created it.
+create table if not exists asset_tag_sequences (
+    series_key varchar(32) not null,
+    next_value bigint not null,
+    primary key (series_key)
+) engine=InnoDB;
@@ -0,0 +1,2 @@
+-- Formerly the hand-run "itemdb - Run after creating.sql": asset tags compare case-sensitively and byte-wise
+alter table items modify asset_tag varchar(255) character set utf8mb4 collate utf8mb4_bin;
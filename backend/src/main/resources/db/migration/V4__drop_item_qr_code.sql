@@ -0,0 +1,2 @@
+-- QR images are rendered on demand from the asset tag; the stored PNGs are no longer read
+alter table items drop column qr_code;
@@ -0,0 +1,6 @@
+-- Department and type are stored as their two-letter codes (see DepartmentConverter / TypeConverter).
+-- Nothing to do at startup: ItemCodeBackfill rewrites legacy display names online, in short id-range
+-- batches, and the converters read both forms until it is done. The columns keep varchar(255) here;
+-- narrowing them to char(2) copies the table on MySQL and is a separate maintenance step
+-- (backend/db/maintenance/narrow-item-code-columns.sql), not part of the startup migration.
+select 1;
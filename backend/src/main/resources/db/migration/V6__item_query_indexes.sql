@@ -0,0 +1,18 @@
+-- Indexes for the item list filters (ItemFilter) and keyset sorts (ItemSortKey).
+-- InnoDB appends the primary key to every secondary index, so each one also serves
+-- "... order by id" after its equality prefix and "order by <column>, id" for the sorts.
+-- Sorting by asset tag uses uk_items_asset_tag.
+
+-- department [+ type [+ status]]; also covers grouped counts over these three columns
+create index idx_items_department_type_status on items (assigning_department, type, status);
+
+-- type [+ status] without a department
+create index idx_items_type_status on items (type, status);
+
+-- status filter, and the status sort
+create index idx_items_status on items (status);
+
+create index idx_items_default_location on items (default_location);
+
+-- model sort
+create index idx_items_model on items (model);
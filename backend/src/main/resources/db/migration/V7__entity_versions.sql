@@ -0,0 +1,8 @@
+-- Optimistic-locking version and last-modified time for conditional requests (ETag / Last-Modified / If-Match)
+alter table items
+    add column version bigint not null default 0,
+    add column updated_at datetime(6) not null default current_timestamp(6);
+
+alter table users
+    add column version bigint not null default 0,
+    add column updated_at datetime(6) not null default current_timestamp(6);
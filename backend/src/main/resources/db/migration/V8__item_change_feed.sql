@@ -0,0 +1,27 @@
+-- Delta sync (GET /api/items/changes): every item write stamps the rows it touches with the
+-- next number from change_sequences, and deletes leave a tombstone carrying their number.
+-- Rows written before this migration keep 0 and are returned by a first, token-less sync.
+alter table items add column change_seq bigint not null default 0;
+
+-- "change_seq > ? or (change_seq = ? and id > ?) order by change_seq, id" (the id comes from InnoDB's primary key suffix)
+create index idx_items_change_seq on items (change_seq);
+
+create table item_tombstones (
+    item_id bigint not null,
+    asset_tag varchar(255),
+    change_seq bigint not null,
+    deleted_at datetime(6) not null,
+    primary key (item_id),
+    index idx_item_tombstones_change_seq (change_seq),
+    index idx_item_tombstones_deleted_at (deleted_at)
+) engine=InnoDB;
+
+-- Named counters: "items" is the last change number handed out (see ItemChangeSequence);
+-- "item_tombstones_purged" is the highest change number whose tombstone may have been purged
+create table change_sequences (
+    name varchar(32) not null,
+    last_value bigint not null,
+    primary key (name)
+) engine=InnoDB;
+
+insert into change_sequences (name, last_value) values ('items', 0), ('item_tombstones_purged', 0);
@@ -0,0 +1,40 @@
+-- Bulk re-tag jobs (POST /api/items/retag-jobs). A job's matching items are split into id
+-- ranges when it starts; each range is committed on its own and marked done in the same
+-- transaction, so a job taken over after a restart continues with the ranges still pending.
+create table retag_jobs (
+    id bigint not null auto_increment,
+    state enum ('running','completed','failed') not null,
+    filter_department char(2),
+    filter_type char(2),
+    filter_status varchar(255),
+    filter_location varchar(255),
+    assigning_department char(2),
+    type char(2),
+    sub_type varchar(255),
+    total_items bigint not null,
+    total_chunks integer not null,
+    completed_chunks integer not null,
+    failed_chunks integer not null,
+    retagged bigint not null,
+    unchanged bigint not null,
+    error varchar(1000),
+    created_by bigint,
+    created_at datetime(6) not null,
+    finished_at datetime(6),
+    owner varchar(36),
+    lease_until datetime(6),
+    primary key (id),
+    -- Running jobs whose lease has run out, looked for by every instance
+    index idx_retag_jobs_state_lease_until (state, lease_until)
+) engine=InnoDB;
+
+create table retag_job_chunks (
+    id bigint not null auto_increment,
+    job_id bigint not null,
+    first_id bigint not null,
+    last_id bigint not null,
+    state enum ('pending','done','failed') not null,
+    error varchar(1000),
+    primary key (id),
+    index idx_retag_job_chunks_job_id_state (job_id, state)
+) engine=InnoDB;
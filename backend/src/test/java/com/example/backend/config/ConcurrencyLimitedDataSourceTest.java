@@ -0,0 +1,69 @@
+package com.example.backend.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:gate");
+        dataSource = new ConcurrencyLimitedDataSource(h2, 1, 50);
+    }
+
+    @Test
+    void virtualThreadsShareThePermits() throws Exception {
+        onVirtualThread(() -> {
+            try (Connection connection = dataSource.getConnection()) {
+                assertEquals(0, dataSource.getAvailablePermits());
+                ExecutionException waited = assertThrows(ExecutionException.class,
+                        () -> onVirtualThread(dataSource::getConnection));
+                assertEquals(SQLTransientConnectionException.class, waited.getCause().getClass());
+            }
+            assertEquals(1, dataSource.getAvailablePermits());
+            return null;
+        });
+    }
+
+    @Test
+    void nestedConnectionDoesNotWaitForAPermit() throws Exception {
+        onVirtualThread(() -> {
+            try (Connection outer = dataSource.getConnection(); Connection nested = dataSource.getConnection()) {
+                assertEquals(0, dataSource.getAvailablePermits());
+            }
+            assertEquals(1, dataSource.getAvailablePermits());
+            return null;
+        });
+    }
+
+    @Test
+    void platformThreadsPassThrough() throws Exception {
+        try (Connection first = dataSource.getConnection(); Connection second = dataSource.getConnection()) {
+            assertEquals(1, dataSource.getAvailablePermits());
+            assertEquals(0, (int) onVirtualThread(() -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    return dataSource.getAvailablePermits();
+                }
+            }));
+        }
+    }
+
+    private static <T> T onVirtualThread(Callable<T> work) throws Exception {
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            return executor.submit(work).get();
+        }
+    }
+}
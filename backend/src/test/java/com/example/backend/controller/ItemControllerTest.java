@@ -0,0 +1,37 @@
+package com.example.backend.controller;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.example.backend.ApplicationExceptionHandler;
+import com.example.backend.exception.ChangeTokenExpiredException;
+import com.example.backend.service.ItemService;
+
+class ItemControllerTest {
+
+    private ItemService itemService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        itemService = mock(ItemService.class);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ItemController(itemService, null, null, null, null, null))
+                .setControllerAdvice(new ApplicationExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void purgedChangeTokenIsGone() throws Exception {
+        when(itemService.getChanges("old", null)).thenThrow(new ChangeTokenExpiredException());
+
+        mockMvc.perform(get("/api/items/changes").param("since", "old")).andExpect(status().isGone());
+    }
+}
@@ -0,0 +1,439 @@
+package com.example.backend.perf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.backend.model.Department;
+import com.example.backend.model.Item;
+import com.example.backend.model.Type;
+import com.example.backend.repository.ItemRepository;
+import com.example.backend.service.AssetTags;
+import com.example.backend.service.ItemStatsCounters;
+import com.example.backend.service.ItemTagIndex;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Drives concurrent HTTP traffic at a fully booted app on H2 (MySQL mode) seeded with
+ * 100k items and 1k users, and prints throughput, p50/p99 latency and errors per
+ * scenario. Run with: mvn -Pperf test
+ */
+@Tag("performance")
+@ActiveProfiles("perf")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ItemLoadTest {
+
+    private static final int ITEMS = 100_000;
+    private static final int USERS = 1_000;
+    private static final int RETAG_ITEMS = 10_000;
+    private static final int CONCURRENCY = 32;
+    private static final String PASSWORD = "perf-password";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private ItemStatsCounters itemStatsCounters;
+
+    @Autowired
+    private ItemTagIndex itemTagIndex;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient http = HttpClient.newBuilder().executor(Executors.newFixedThreadPool(CONCURRENCY)).build();
+    private final List<String> report = new ArrayList<>();
+    private String token;
+
+    @BeforeAll
+    void seed() throws Exception {
+        // Every user shares one hash; hashing 1k passwords would dominate the setup
+        String hash = passwordEncoder.encode(PASSWORD);
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(new Object[] {"User " + i, "user" + i + "@perf.test", hash, i == 0 ? "admin" : "user"});
+        }
+        jdbcTemplate.batchUpdate("insert into users (name, email, password, role) values (?, ?, ?, ?)", users);
+
+        // Tags in the current month, so the allocator must continue above them
+        String yyMM = AssetTags.currentYearMonth();
+        List<Item> chunk = new ArrayList<>();
+        for (int i = 1; i <= ITEMS; i++) {
+            Item item = new Item();
+            item.setAssigningDepartment(Department.values()[i % Department.values().length]);
+            item.setType(Type.values()[i % Type.values().length]);
+            item.setSubType("Laptop");
+            item.setAssetTag(AssetTags.format(item.getAssigningDepartment(), yyMM, item.getType(), "Laptop", i));
+            item.setSerial("SN-" + i);
+            item.setModel("Model " + (i % 250));
+            item.setStatus(i % 10 == 0 ? "In Repair" : "In Use");
+            item.setDefaultLocation("Floor " + (i % 12));
+            chunk.add(item);
+            if (chunk.size() == 5_000) {
+                itemRepository.insertBatch(chunk);
+                chunk.clear();
+            }
+        }
+        // Left to the retag job scenario; a subType of their own keeps their tags apart from the lookups above
+        for (int i = 1; i <= RETAG_ITEMS; i++) {
+            Item item = new Item();
+            item.setAssigningDepartment(Department.values()[i % Department.values().length]);
+            item.setType(Type.values()[i % Type.values().length]);
+            item.setSubType("Dock");
+            item.setAssetTag(AssetTags.format(item.getAssigningDepartment(), yyMM, item.getType(), "Dock", i));
+            item.setModel("Dock " + (i % 20));
+            item.setStatus("Awaiting Retag");
+            item.setDefaultLocation("Floor " + (i % 12));
+            chunk.add(item);
+        }
+        itemRepository.insertBatch(chunk);
+        chunk.clear();
+
+        // Seeded behind the app's back, so the counters and tag index are recomputed from the table
+        itemStatsCounters.reconcile();
+        itemTagIndex.rebuild();
+
+        token = objectMapper.readTree(send(loginRequest("user0@perf.test")).body()).get("token").asText();
+    }
+
+    @AfterAll
+    void printReport() {
+        System.out.printf("%n%-22s %9s %11s %9s %9s %7s%n", "scenario", "requests", "req/s", "p50 ms", "p99 ms", "errors");
+        report.forEach(System.out::println);
+    }
+
+    @Test
+    void listItems() throws Exception {
+        String[] queries = {"size=50", "size=50&department=IT", "size=50&sort=assetTag", "size=50&type=CO&status=In%20Repair"};
+        Result result = run("GET /api/items", 2_000, i -> get("/api/items?" + queries[i % queries.length]));
+        assertEquals(0, result.errors.get());
+    }
+
+    @Test
+    void getItemById() throws Exception {
+        Result result = run("GET /api/items/{id}", 10_000,
+                i -> get("/api/items/" + ThreadLocalRandom.current().nextInt(1, ITEMS + 1)));
+        assertEquals(0, result.errors.get());
+    }
+
+    @Test
+    void getItemByAssetTag() throws Exception {
+        String yyMM = AssetTags.currentYearMonth();
+        Result result = run("GET /api/items/by-tag", 10_000, i -> {
+            int n = ThreadLocalRandom.current().nextInt(1, ITEMS + 1);
+            Department department = Department.values()[n % Department.values().length];
+            Type type = Type.values()[n % Type.values().length];
+            return get("/api/items/by-tag/" + AssetTags.format(department, yyMM, type, "Laptop", n));
+        });
+        assertEquals(0, result.errors.get());
+    }
+
+    @Test
+    void stats() throws Exception {
+        Result result = run("GET /api/items/stats", 10_000, i -> get("/api/items/stats"));
+        assertEquals(0, result.errors.get());
+    }
+
+    @Test
+    void login() throws Exception {
+        // bcrypt-bound: kept within the hashing pool's queue so nothing is shed
+        Result result = run("POST /api/auth/login", 200,
+                i -> loginRequest("user" + ThreadLocalRandom.current().nextInt(USERS) + "@perf.test"));
+        assertEquals(0, result.errors.get());
+    }
+
+    @Test
+    void parallelCreatesNeverDuplicateAssetTags() throws Exception {
+        int creates = 4_000;
+        Set<String> tags = ConcurrentHashMap.newKeySet();
+        Result result = run("POST /api/items", creates, i -> {
+            Map<String, Object> item = Map.of(
+                    "assigningDepartment", Department.values()[i % 2].getDisplayName(),
+                    "type", Type.values()[(i / 2) % 2].getDisplayName(),
+                    "subType", "Monitor",
+                    "model", "Perf Model",
+                    "status", "In Use",
+                    "defaultLocation", "Floor 1");
+            return post("/api/items", item);
+        }, body -> tags.add(objectMapper.readTree(body).get("assetTag").asText()));
+
+        assertEquals(0, result.errors.get());
+        assertEquals(creates, tags.size(), "responses carried duplicate asset tags");
+        List<String> duplicates = jdbcTemplate.queryForList(
+                "select asset_tag from items group by asset_tag having count(*) > 1", String.class);
+        assertTrue(duplicates.isEmpty(), "duplicate asset tags stored: " + duplicates);
+        assertEquals(jdbcTemplate.queryForObject("select count(*) from items", Long.class), itemStatsCounters.stats().getTotal());
+    }
+
+    @Test
+    void labelSheets() throws Exception {
+        int labels = 5_000;
+        Result result = run("POST /api/items/labels", 4, i -> {
+            List<Long> ids = new ArrayList<>(labels);
+            for (long id = (long) i * labels + 1; ids.size() < labels; id++) {
+                ids.add(id);
+            }
+            return post("/api/items/labels", Map.of("ids", ids, "format", i % 2 == 0 ? "pdf" : "png"));
+        });
+        assertEquals(0, result.errors.get());
+    }
+
+    @Test
+    void retagJob() throws Exception {
+        // Every item moves to IT with a new subType, so half of them also need numbers in another series
+        Map<String, Object> request = Map.of("filter", Map.of("status", "Awaiting Retag"),
+                "assigningDepartment", "IT", "subType", "Hub");
+        long start = System.nanoTime();
+        HttpResponse<String> started = send(post("/api/items/retag-jobs", request));
+        assertEquals(202, started.statusCode());
+        String location = started.headers().firstValue("Location").orElseThrow();
+
+        JsonNode job;
+        do {
+            Thread.sleep(100);
+            job = objectMapper.readTree(send(get(location)).body());
+        } while (job.get("state").asText().equals("running"));
+        long elapsed = System.nanoTime() - start;
+
+        report.add(String.format("%-22s %9d %11.1f %9s %9s %7d", "retag job (items)", RETAG_ITEMS,
+                RETAG_ITEMS / (elapsed / 1e9), "-", "-", job.get("failedChunks").asInt()));
+        assertEquals("completed", job.get("state").asText());
+        assertEquals(RETAG_ITEMS, job.get("retagged").asLong());
+        assertEquals(RETAG_ITEMS, jdbcTemplate.queryForObject(
+                "select count(distinct asset_tag) from items where sub_type = 'Hub' and assigning_department = 'IT'", Long.class));
+    }
+
+    @Test
+    void updatesAreRecordedInHistory() throws Exception {
+        // Same department, type and subType, so the tags the lookup scenario asks for stay put
+        int updates = 2_000;
+        Result result = run("PUT /api/items/{id}", updates, i -> {
+            int n = i + 1;
+            Map<String, Object> item = Map.of(
+                    "assigningDepartment", Department.values()[n % Department.values().length].getDisplayName(),
+                    "type", Type.values()[n % Type.values().length].getDisplayName(),
+                    "subType", "Laptop",
+                    "model", "Model " + (n % 250),
+                    "status", "Audited",
+                    "defaultLocation", "Floor " + (n % 12));
+            return put("/api/items/" + n, item);
+        });
+        assertEquals(0, result.errors.get());
+
+        // Written behind the requests; every update shows up once the queue drains
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        long recorded;
+        do {
+            Thread.sleep(50);
+            recorded = jdbcTemplate.queryForObject(
+                    "select count(*) from item_history where kind = 'UPDATED' and changes like '%Audited%'", Long.class);
+        } while (recorded < updates && System.nanoTime() < deadline);
+        assertEquals(updates, recorded);
+    }
+
+    @Test
+    void eventStreamFanOut() throws Exception {
+        int streams = 2_000;
+        HttpClient streamClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        long[] latencies = new long[streams];
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch open = new CountDownLatch(streams);
+        CountDownLatch warmedUp = new CountDownLatch(streams);
+        CountDownLatch delivered = new CountDownLatch(streams);
+        long[] created = new long[1];
+        List<InputStream> bodies = new ArrayList<>();
+        try (ExecutorService readers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < streams; i++) {
+                int n = i;
+                InputStream body = streamClient.send(HttpRequest.newBuilder(uri("/api/items/events"))
+                        .header("Authorization", "Bearer " + token).GET().build(),
+                        HttpResponse.BodyHandlers.ofInputStream()).body();
+                bodies.add(body);
+                readers.execute(() -> {
+                    try (BufferedReader lines = new BufferedReader(new InputStreamReader(body))) {
+                        String line;
+                        boolean warm = false;
+                        while ((line = lines.readLine()) != null) {
+                            if (line.equals(":open")) {
+                                open.countDown();
+                            } else if (line.equals("event:created") && !warm) {
+                                warm = true;
+                                warmedUp.countDown();
+                            } else if (line.equals("event:created")) {
+                                latencies[n] = System.nanoTime() - created[0];
+                                delivered.countDown();
+                                return;
+                            }
+                        }
+                    } catch (Exception e) {
+                        // counted below as undelivered
+                    }
+                });
+            }
+            assertTrue(open.await(1, TimeUnit.MINUTES), "streams did not open");
+            Map<String, Object> item = Map.of("assigningDepartment", "IT", "type", "Computers / Peripherals",
+                    "subType", "Monitor", "model", "Stream Model", "status", "In Use", "defaultLocation", "Floor 1");
+            assertEquals(201, send(post("/api/items", item)).statusCode());
+            assertTrue(warmedUp.await(1, TimeUnit.MINUTES), "warm-up event was not delivered");
+
+            // Every stream is idle here; one create is fanned out to all of them. Latency includes the POST itself
+            created[0] = System.nanoTime();
+            assertEquals(201, send(post("/api/items", item)).statusCode());
+            if (!delivered.await(1, TimeUnit.MINUTES)) {
+                errors.set((int) delivered.getCount());
+            }
+            long elapsed = System.nanoTime() - created[0];
+            for (InputStream body : bodies) {
+                body.close();
+            }
+
+            Arrays.sort(latencies);
+            report.add(String.format("%-22s %9d %11.1f %9.2f %9.2f %7d", "GET /api/items/events", streams,
+                    streams / (elapsed / 1e9), percentile(latencies, 0.50), percentile(latencies, 0.99), errors.get()));
+        }
+        assertEquals(0, errors.get());
+    }
+
+    @FunctionalInterface
+    private interface BodyCheck {
+        void accept(String body) throws Exception;
+    }
+
+    private static final class Result {
+        final AtomicInteger errors = new AtomicInteger();
+    }
+
+    private Result run(String scenario, int requests, IntFunction<HttpRequest> request) throws Exception {
+        return run(scenario, requests, request, body -> {
+        });
+    }
+
+    private Result run(String scenario, int requests, IntFunction<HttpRequest> request, BodyCheck check) throws Exception {
+        Result result = new Result();
+        long[] latencies = new long[requests];
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            int n = i;
+            workers.execute(() -> {
+                long sent = System.nanoTime();
+                try {
+                    HttpResponse<String> response = send(request.apply(n));
+                    latencies[n] = System.nanoTime() - sent;
+                    if (response.statusCode() / 100 != 2) {
+                        result.errors.incrementAndGet();
+                    } else {
+                        check.accept(response.body());
+                    }
+                } catch (Exception e) {
+                    latencies[n] = System.nanoTime() - sent;
+                    result.errors.incrementAndGet();
+                }
+            });
+        }
+        workers.shutdown();
+        assertTrue(workers.awaitTermination(10, TimeUnit.MINUTES), scenario + " did not finish");
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        report.add(String.format("%-22s %9d %11.1f %9.2f %9.2f %7d", scenario, requests,
+                requests / (elapsed / 1e9), percentile(latencies, 0.50), percentile(latencies, 0.99), result.errors.get()));
+        return result;
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(p * sorted.length) - 1)] / 1e6;
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws Exception {
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + token).GET().build();
+    }
+
+    private HttpRequest post(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest put(String path, Object body) {
+        try {
+            return HttpRequest.newBuilder(uri(path))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest loginRequest(String email) {
+        Map<String, String> credentials = Map.of("email", email, "password", PASSWORD);
+        try {
+            return HttpRequest.newBuilder(uri("/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(credentials)))
+                    .build();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.backend.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.backend.exception.InvalidJwtException;
+import com.example.backend.model.Role;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hs256";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxEntries", 100);
+        jwtUtil.init();
+    }
+
+    @Test
+    void verifyReturnsAllClaimsFromOneParse() {
+        String token = jwtUtil.generateToken(7L, "Ada", "ada@example.com", Role.admin);
+
+        JwtClaims claims = jwtUtil.verify(token);
+
+        assertEquals(7L, claims.getId());
+        assertEquals("Ada", claims.getName());
+        assertEquals("ada@example.com", claims.getEmail());
+        assertEquals(Role.admin, claims.getRole());
+        assertSame(claims, jwtUtil.verify(token)); // second call is a cache hit
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = jwtUtil.generateToken(7L, "Ada", "ada@example.com", Role.user);
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        assertThrows(InvalidJwtException.class, () -> jwtUtil.verify(tampered));
+    }
+
+    @Test
+    void cacheStaysWithinBound() {
+        for (long i = 0; i < 500; i++) {
+            jwtUtil.verify(jwtUtil.generateToken(i, "u" + i, "u" + i + "@example.com", Role.user));
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, JwtClaims> cache = (Map<String, JwtClaims>) ReflectionTestUtils.getField(jwtUtil, "verified");
+        assertTrue(cache.size() <= 100);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.config.ItemChangesProperties;
+import com.example.backend.model.ChangeSequence;
+import com.example.backend.model.ItemChangeBlock;
+import com.example.backend.repository.ChangeSequenceRepository;
+import com.example.backend.repository.ItemChangeBlockRepository;
+
+class ItemChangeLogTest {
+
+    private final ChangeSequence counter = new ChangeSequence("items", 0);
+    private final List<ItemChangeBlock> reserved = new ArrayList<>();
+    private final ItemChangesProperties properties = new ItemChangesProperties();
+
+    private ChangeSequenceRepository changeSequenceRepository;
+    private ItemChangeBlockRepository itemChangeBlockRepository;
+    private ItemChangeLog changeLog;
+
+    @BeforeEach
+    void setUp() {
+        changeSequenceRepository = mock(ChangeSequenceRepository.class);
+        itemChangeBlockRepository = mock(ItemChangeBlockRepository.class);
+        when(changeSequenceRepository.findForUpdate("items")).thenReturn(Optional.of(counter));
+        when(changeSequenceRepository.findById("items")).thenReturn(Optional.of(counter));
+        when(itemChangeBlockRepository.save(any())).thenAnswer(call -> {
+            reserved.add(call.getArgument(0));
+            return call.getArgument(0);
+        });
+        when(itemChangeBlockRepository.renew(anyLong(), anyLong(), any())).thenReturn(1);
+
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(call -> new SimpleTransactionStatus());
+        properties.setBlockSize(3);
+        properties.setPublishInterval(Duration.ofHours(1));
+        changeLog = new ItemChangeLog(changeSequenceRepository, itemChangeBlockRepository, null, properties,
+                new TransactionTemplate(transactionManager));
+    }
+
+    @Test
+    void writesTakeTheirNumbersFromReservedBlocks() {
+        List<Long> numbers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            numbers.add(changeLog.write((changeSeq, status) -> changeSeq));
+        }
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), numbers);
+        // The counter row moves once per block, not once per write
+        assertEquals(6, counter.getLastValue());
+        assertEquals(2, reserved.size());
+        assertEquals(4, reserved.get(1).getBlockStart());
+        assertEquals(6, reserved.get(1).getBlockEnd());
+        assertEquals(3, reserved.get(1).getSafeThrough());
+    }
+
+    @Test
+    void publishStopsBelowTheLowestWriteStillRunning() {
+        changeLog.write((changeSeq, status) -> changeSeq);
+        changeLog.write((changeSeq, status) -> {
+            changeLog.publish();
+            return changeSeq;
+        });
+        verify(itemChangeBlockRepository).renew(eq(1L), eq(1L), any());
+
+        changeLog.publish();
+        verify(itemChangeBlockRepository).renew(eq(1L), eq(2L), any());
+    }
+
+    @Test
+    void rolledBackWriteDoesNotHoldTheWatermark() {
+        changeLog.write((changeSeq, status) -> {
+            status.setRollbackOnly();
+            return changeSeq;
+        });
+
+        changeLog.publish();
+        verify(itemChangeBlockRepository).renew(eq(1L), eq(1L), any());
+    }
+
+    @Test
+    void quietBlockIsClosedAndItsRowDropped() {
+        properties.setPublishInterval(Duration.ZERO);
+        changeLog.write((changeSeq, status) -> changeSeq);
+
+        changeLog.publish();
+
+        verify(itemChangeBlockRepository).deleteByBlockStart(1L);
+        verify(itemChangeBlockRepository, never()).renew(anyLong(), anyLong(), any());
+        // Numbers 2 and 3 are never used; the next write starts a new block
+        assertEquals(4L, changeLog.<Long>write((changeSeq, status) -> changeSeq));
+    }
+
+    @Test
+    void blockWithWritesRunningStaysUntilTheyFinish() {
+        properties.setPublishInterval(Duration.ZERO);
+        changeLog.write((changeSeq, status) -> {
+            changeLog.publish();
+            return changeSeq;
+        });
+        verify(itemChangeBlockRepository).renew(eq(1L), eq(0L), any());
+        verify(itemChangeBlockRepository, never()).deleteByBlockStart(anyLong());
+
+        changeLog.publish();
+        verify(itemChangeBlockRepository).deleteByBlockStart(1L);
+    }
+
+    @Test
+    void writeWhoseBlockWasExpiredFailsOnCommit() {
+        when(itemChangeBlockRepository.renew(anyLong(), anyLong(), any())).thenReturn(0);
+
+        assertThrows(OptimisticLockingFailureException.class, () -> changeLog.write((changeSeq, status) -> {
+            changeLog.publish();
+            return changeSeq;
+        }));
+        // The lost block hands out nothing more
+        assertEquals(4L, changeLog.<Long>write((changeSeq, status) -> changeSeq));
+    }
+
+    @Test
+    void safeThroughIsTheLowestBlockOrElseTheCounter() {
+        counter.setLastValue(9);
+        when(itemChangeBlockRepository.findMinSafeThrough()).thenReturn(null);
+        assertEquals(9, changeLog.safeThrough());
+
+        when(itemChangeBlockRepository.findMinSafeThrough()).thenReturn(4L);
+        assertEquals(4, changeLog.safeThrough());
+    }
+}
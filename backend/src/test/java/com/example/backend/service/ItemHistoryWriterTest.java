@@ -0,0 +1,78 @@
+package com.example.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.config.ItemHistoryProperties;
+import com.example.backend.model.Department;
+import com.example.backend.model.Item;
+import com.example.backend.model.Type;
+import com.example.backend.repository.ItemHistoryRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ItemHistoryWriterTest {
+
+    private ItemHistoryWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        // Not started: diff() needs neither the writer thread nor the database
+        writer = new ItemHistoryWriter(mock(ItemHistoryRepository.class), new ItemHistoryProperties(), new ObjectMapper(),
+                mock(TransactionTemplate.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void createListsEverySetField() throws Exception {
+        assertEquals("{\"assigningDepartment\":{\"from\":null,\"to\":\"IT\"},"
+                + "\"assetTag\":{\"from\":null,\"to\":\"CMX-IT-2610-CO-LAPTOP-0001\"},"
+                + "\"type\":{\"from\":null,\"to\":\"Computers / Peripherals\"},"
+                + "\"subType\":{\"from\":null,\"to\":\"Laptop\"},"
+                + "\"model\":{\"from\":null,\"to\":\"T14\"},"
+                + "\"status\":{\"from\":null,\"to\":\"In Use\"}}",
+                writer.diff(null, item()));
+    }
+
+    @Test
+    void updateListsOnlyChangedFields() throws Exception {
+        Item before = item();
+        Item after = before.copy();
+        after.setStatus("Retired");
+        after.setDefaultLocation("F2");
+        after.setVersion(before.getVersion() + 1); // not a tracked field
+
+        assertEquals("{\"status\":{\"from\":\"In Use\",\"to\":\"Retired\"},\"defaultLocation\":{\"from\":null,\"to\":\"F2\"}}",
+                writer.diff(before, after));
+    }
+
+    @Test
+    void unchangedUpdateIsEmpty() throws Exception {
+        Item before = item();
+        assertEquals("{}", writer.diff(before, before.copy()));
+    }
+
+    @Test
+    void deleteClearsEverySetField() throws Exception {
+        String diff = writer.diff(item(), null);
+        assertTrue(diff.startsWith("{\"assigningDepartment\":{\"from\":\"IT\",\"to\":null},"));
+        assertTrue(diff.endsWith("\"status\":{\"from\":\"In Use\",\"to\":null}}"));
+    }
+
+    private static Item item() {
+        Item item = new Item();
+        item.setId(7L);
+        item.setAssigningDepartment(Department.IT);
+        item.setAssetTag("CMX-IT-2610-CO-LAPTOP-0001");
+        item.setType(Type.CO);
+        item.setSubType("Laptop");
+        item.setModel("T14");
+        item.setStatus("In Use");
+        return item;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.backend.event.ItemChangeEvent;
+import com.example.backend.event.ItemChangeEvent.Kind;
+import com.example.backend.model.Item;
+
+class ItemSearchIndexTest {
+
+    private ItemSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // Only rebuild() reads the database
+        index = new ItemSearchIndex(null, null, null);
+    }
+
+    @Test
+    void exactBeatsPrefixBeatsSubstring() {
+        put(1, "t480", "");
+        put(2, "t480s", "");
+        put(3, "xt480", "");
+
+        List<ItemSearchIndex.Hit> hits = index.search("T480", 10);
+
+        assertEquals(List.of(1L, 2L, 3L), ids(hits));
+        assertEquals(List.of(200, 80, 20), hits.stream().map(hit -> hit.score).toList());
+    }
+
+    @Test
+    void fieldsAreWeighted() {
+        Item inLocation = item(1, "dock", "");
+        inLocation.setDefaultLocation("dell");
+        Item inModel = item(2, "dell", "");
+        Item inSerial = item(3, "dock", "dell");
+        put(inLocation);
+        put(inModel);
+        put(inSerial);
+
+        assertEquals(List.of(3L, 2L, 1L), ids(index.search("dell", 10)));
+    }
+
+    @Test
+    void equalScoresAreOrderedById() {
+        put(5, "x1 carbon", "");
+        put(3, "x1 carbon", "");
+        put(4, "x1 carbon", "");
+
+        assertEquals(List.of(3L, 4L, 5L), ids(index.search("carbon", 10)));
+    }
+
+    @Test
+    void everyTokenMustMatchSomeField() {
+        put(1, "latitude 5420", "");
+        put(2, "latitude 7420", "");
+        Item elsewhere = item(3, "latitude 7420", "");
+        elsewhere.setDefaultLocation("annex");
+        put(elsewhere);
+
+        assertEquals(List.of(1L), ids(index.search("latitude 5420", 10)));
+        assertEquals(List.of(3L), ids(index.search("annex 7420", 10)));
+        assertEquals(List.of(), ids(index.search("5420 annex", 10)));
+    }
+
+    @Test
+    void sharedGramsAloneAreNotAMatch() {
+        // Has every 3-gram of "abcd" (abc, bcd) but not "abcd" itself
+        put(1, "", "abcxbcd");
+        put(2, "", "abcd");
+
+        assertEquals(List.of(2L), ids(index.search("abcd", 10)));
+    }
+
+    @Test
+    void twoLetterTokensMatchOnTheirBigram() {
+        Item item = item(1, "desk", "");
+        item.setDefaultLocation("hq-3");
+        put(item);
+        put(2, "chair", "");
+
+        assertEquals(List.of(1L), ids(index.search("hq", 10)));
+    }
+
+    @Test
+    void singleCharactersOnlyNarrowLongerTokens() {
+        put(1, "latitude 5420", "");
+        put(2, "latitude 7420", "");
+
+        assertEquals(List.of(), ids(index.search("5", 10)));
+        assertEquals(List.of(1L), ids(index.search("latitude 5", 10)));
+    }
+
+    @Test
+    void rareTokenIsFoundInLongPostingList() {
+        // "zzq" has one posting, "laptop" many more: the short list is binary-searched into the long one
+        for (long id = 1; id <= 100; id++) {
+            put(id, "laptop", id == 57 ? "zzq" : "s" + id);
+        }
+        for (long id = 101; id <= 200; id++) {
+            put(id, "desk", "s" + id);
+        }
+
+        assertEquals(List.of(57L), ids(index.search("zzq laptop", 10)));
+        assertEquals(List.of(57L), ids(index.search("laptop zzq", 10)));
+        assertEquals(List.of(), ids(index.search("zzq desk", 10)));
+    }
+
+    @Test
+    void updateReplacesTheOldValues() {
+        put(1, "optiplex", "");
+        index.onItemChange(new ItemChangeEvent(Kind.UPDATED, item(1, "optiplex", ""), item(1, "thinkcentre", ""), 2, null));
+
+        assertEquals(List.of(), ids(index.search("optiplex", 10)));
+        assertEquals(List.of(1L), ids(index.search("thinkcentre", 10)));
+    }
+
+    @Test
+    void deletedItemIsNotFound() {
+        put(1, "optiplex", "");
+        put(2, "optiplex", "");
+        index.onItemChange(new ItemChangeEvent(Kind.DELETED, item(1, "optiplex", ""), null, 3, null));
+
+        assertEquals(List.of(2L), ids(index.search("optiplex", 10)));
+    }
+
+    @Test
+    void manyUpdatesCompactWithoutLosingItems() {
+        put(2, "monitor", "");
+        for (int version = 0; version < 3000; version++) {
+            put(1, "printer " + version, "");
+        }
+
+        assertEquals(List.of(1L), ids(index.search("printer 2999", 10)));
+        assertEquals(List.of(), ids(index.search("printer 1500", 10)));
+        assertEquals(List.of(2L), ids(index.search("monitor", 10)));
+    }
+
+    @Test
+    void limitKeepsTheBestHits() {
+        put(1, "xt480", "");
+        put(2, "t480s", "");
+        put(3, "t480", "");
+        put(4, "xt480", "");
+        put(5, "t480s", "");
+
+        assertEquals(List.of(3L, 2L, 5L), ids(index.search("t480", 3)));
+    }
+
+    @Test
+    void blankQueryFindsNothing() {
+        put(1, "t480", "");
+
+        assertEquals(List.of(), ids(index.search("  ", 10)));
+        assertEquals(List.of(), ids(index.search(null, 10)));
+    }
+
+    private void put(long id, String model, String serial) {
+        put(item(id, model, serial));
+    }
+
+    private void put(Item item) {
+        index.onItemChange(new ItemChangeEvent(Kind.CREATED, null, item, 1, null));
+    }
+
+    private static Item item(long id, String model, String serial) {
+        Item item = new Item();
+        item.setId(id);
+        item.setAssetTag("IT-CO-2401-" + id);
+        item.setSerial(serial);
+        item.setModel(model);
+        item.setSubType("");
+        item.setDefaultLocation("");
+        return item;
+    }
+
+    private static List<Long> ids(List<ItemSearchIndex.Hit> hits) {
+        return hits.stream().map(hit -> hit.itemId).toList();
+    }
+}
@@ -0,0 +1,272 @@
+package com.example.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+
+import com.example.backend.config.AssetTagProperties;
+import com.example.backend.config.PaginationProperties;
+import com.example.backend.dto.CursorPage;
+import com.example.backend.dto.ItemChanges;
+import com.example.backend.dto.PageCursor;
+import com.example.backend.event.ItemChangeEvent;
+import com.example.backend.exception.ChangeTokenExpiredException;
+import com.example.backend.exception.InvalidCursorException;
+import com.example.backend.exception.ItemNotFoundException;
+import com.example.backend.model.Department;
+import com.example.backend.model.Item;
+import com.example.backend.model.ItemHistoryEntry;
+import com.example.backend.model.ItemTombstone;
+import com.example.backend.model.Type;
+import com.example.backend.repository.ItemHistoryRepository;
+import com.example.backend.repository.ItemRepository;
+import com.example.backend.repository.ItemTombstoneRepository;
+
+class ItemServiceImplTest {
+
+    private final List<ItemHistoryEntry> history = new ArrayList<>();
+
+    private ItemRepository itemRepository;
+    private ItemTombstoneRepository itemTombstoneRepository;
+    private ItemHistoryRepository itemHistoryRepository;
+    private ItemChangeLog itemChangeLog;
+    private AssetTagAllocator assetTagAllocator;
+    private ItemServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        itemRepository = mock(ItemRepository.class);
+        itemTombstoneRepository = mock(ItemTombstoneRepository.class);
+        itemHistoryRepository = mock(ItemHistoryRepository.class);
+        itemChangeLog = mock(ItemChangeLog.class);
+        assetTagAllocator = mock(AssetTagAllocator.class);
+        // findPage over the in-memory history, with the query's semantics
+        when(itemHistoryRepository.findPage(anyLong(), anyLong(), anyLong(), any(Limit.class))).thenAnswer(call -> {
+            long itemId = call.getArgument(0);
+            long beforeSeq = call.getArgument(1);
+            long beforeId = call.getArgument(2);
+            Limit limit = call.getArgument(3);
+            return history.stream()
+                    .filter(h -> h.getItemId() == itemId)
+                    .filter(h -> h.getChangeSeq() < beforeSeq || (h.getChangeSeq() == beforeSeq && h.getId() < beforeId))
+                    .sorted(Comparator.comparingLong(ItemHistoryEntry::getChangeSeq).thenComparing(ItemHistoryEntry::getId).reversed())
+                    .limit(limit.max())
+                    .toList();
+        });
+        service = new ItemServiceImpl(itemRepository, null, new PaginationProperties(), null, null, null, null, assetTagAllocator,
+                itemChangeLog, itemTombstoneRepository, itemHistoryRepository, new AssetTagProperties());
+    }
+
+    @Test
+    void historyPagesWalkNewestFirstWithoutRepeats() {
+        // Ids don't follow change numbers: entries are appended in batches, and change 5 holds two entries
+        record(7, 11, 1);
+        record(7, 14, 2);
+        record(7, 12, 5);
+        record(7, 13, 5);
+        record(7, 15, 8);
+        record(9, 16, 6);
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            CursorPage<ItemHistoryEntry> page = service.getHistory(7L, cursor, 2);
+            page.getItems().forEach(entry -> seen.add(entry.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(List.of(15L, 13L, 12L, 14L, 11L), seen);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void lastFullPageHasNoCursor() {
+        record(7, 1, 1);
+        record(7, 2, 2);
+
+        CursorPage<ItemHistoryEntry> page = service.getHistory(7L, null, 2);
+
+        assertEquals(2, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void deletedItemKeepsItsHistory() {
+        record(7, 1, 1);
+        when(itemRepository.existsById(7L)).thenReturn(false);
+
+        assertEquals(1, service.getHistory(7L, null, 10).getItems().size());
+    }
+
+    @Test
+    void itemWithoutHistoryIsNotFoundUnlessItExists() {
+        assertThrows(ItemNotFoundException.class, () -> service.getHistory(7L, null, 10));
+
+        when(itemRepository.existsById(7L)).thenReturn(true);
+        assertEquals(0, service.getHistory(7L, null, 10).getItems().size());
+    }
+
+    @Test
+    void cursorOfAnotherListingIsRejected() {
+        String changesToken = new PageCursor("changes", 1, "1/0").encode();
+        assertThrows(InvalidCursorException.class, () -> service.getHistory(7L, changesToken, 10));
+        String garbled = new PageCursor("history", 1, "x").encode();
+        assertThrows(InvalidCursorException.class, () -> service.getHistory(7L, garbled, 10));
+    }
+
+    @Test
+    void fullSyncReadsUpToTheWatermarkAndRemembersIt() {
+        when(itemChangeLog.safeThrough()).thenReturn(10L);
+        when(itemRepository.findChangedAfter(-1L, 0L, 10L, Limit.of(4))).thenReturn(List.of(changed(3, 2), changed(1, 6)));
+
+        ItemChanges changes = service.getChanges(null, 3);
+
+        assertEquals(2, changes.getItems().size());
+        assertFalse(changes.isHasMore());
+        assertToken(changes, 1, "6/10");
+    }
+
+    @Test
+    void itemsAndDeletionsAreMergedInChangeOrder() {
+        when(itemChangeLog.safeThrough()).thenReturn(10L);
+        when(itemRepository.findChangedAfter(-1L, 0L, 10L, Limit.of(4))).thenReturn(List.of(changed(5, 2), changed(1, 4)));
+        when(itemTombstoneRepository.findChangedAfter(-1L, 0L, 10L, Limit.of(4))).thenReturn(List.of(deleted(9, 3), deleted(0, 4)));
+
+        ItemChanges changes = service.getChanges(null, 3);
+
+        // (2, 5), (3, 9), (4, 0); (4, 1) is left for the next page
+        assertEquals(List.of(5L), changes.getItems().stream().map(Item::getId).toList());
+        assertEquals(List.of(9L, 0L), changes.getDeleted().stream().map(ItemTombstone::getId).toList());
+        assertTrue(changes.isHasMore());
+        assertToken(changes, 0, "4/10");
+    }
+
+    @Test
+    void resumeReadsFromTheTokenUpToTheCurrentWatermark() {
+        when(itemChangeLog.safeThrough()).thenReturn(12L);
+        when(itemRepository.findChangedAfter(7L, 5L, 12L, Limit.of(51))).thenReturn(List.of(changed(2, 9)));
+
+        ItemChanges changes = service.getChanges(new PageCursor("changes", 5, "7/3").encode(), null);
+
+        assertEquals(1, changes.getItems().size());
+        verify(itemTombstoneRepository).findChangedAfter(7L, 5L, 12L, Limit.of(51));
+        // The sync start travels with the client, however far it has moved on since
+        assertToken(changes, 2, "9/3");
+    }
+
+    @Test
+    void emptyPageKeepsThePosition() {
+        when(itemChangeLog.safeThrough()).thenReturn(12L);
+
+        ItemChanges changes = service.getChanges(new PageCursor("changes", 5, "7/3").encode(), null);
+
+        assertEquals(0, changes.getItems().size());
+        assertToken(changes, 5, "7/3");
+    }
+
+    @Test
+    void tokenFromBeforeThePurgeIsGone() {
+        when(itemChangeLog.safeThrough()).thenReturn(12L);
+        when(itemChangeLog.purgedThrough()).thenReturn(8L);
+
+        String token = new PageCursor("changes", 5, "7/3").encode();
+        assertThrows(ChangeTokenExpiredException.class, () -> service.getChanges(token, null));
+    }
+
+    @Test
+    void purgeOfDeletionsFromBeforeTheSyncStartedKeepsTheToken() {
+        when(itemChangeLog.safeThrough()).thenReturn(12L);
+        when(itemChangeLog.purgedThrough()).thenReturn(8L);
+
+        // Still paging through a full sync that started at 9: nothing purged was deleted after it began
+        ItemChanges changes = service.getChanges(new PageCursor("changes", 5, "2/9").encode(), null);
+
+        assertToken(changes, 5, "2/9");
+    }
+
+    @Test
+    void firstSyncIsNeverGone() {
+        when(itemChangeLog.safeThrough()).thenReturn(12L);
+        when(itemChangeLog.purgedThrough()).thenReturn(20L);
+
+        assertToken(service.getChanges(null, null), 0, "-1/12");
+    }
+
+    @Test
+    void malformedChangeTokenIsRejected() {
+        when(itemChangeLog.safeThrough()).thenReturn(12L);
+
+        String token = new PageCursor("changes", 5, "7").encode();
+        assertThrows(InvalidCursorException.class, () -> service.getChanges(token, null));
+        String historyToken = new PageCursor("history", 5, "7").encode();
+        assertThrows(InvalidCursorException.class, () -> service.getChanges(historyToken, null));
+    }
+
+    @Test
+    void updateGivesUpOnAnItemThatKeepsMovingSeries() {
+        // Read in one series, found in another under the write every time, so the number allocated up front never fits
+        AtomicInteger reads = new AtomicInteger();
+        when(itemRepository.findById(7L)).thenAnswer(call -> Optional.of(reads.getAndIncrement() % 2 == 0
+                ? inSeries(Department.IT, Type.CO) : inSeries(Department.GS, Type.FU)));
+        when(itemChangeLog.write(any())).thenAnswer(call -> call.<ItemChangeLog.Write<?>>getArgument(0).run(1, null));
+        Item details = new Item();
+        details.setAssigningDepartment(Department.IT);
+        details.setType(Type.CO);
+        details.setSubType("Laptop");
+
+        assertThrows(OptimisticLockingFailureException.class, () -> service.updateItem(7L, details, null));
+        verify(itemChangeLog, times(3)).write(any());
+    }
+
+    private static void assertToken(ItemChanges changes, long lastId, String lastValue) {
+        PageCursor token = PageCursor.decode(changes.getNextToken(), "changes");
+        assertEquals(lastId, token.getLastId());
+        assertEquals(lastValue, token.getLastValue());
+    }
+
+    private static Item changed(long id, long changeSeq) {
+        Item item = new Item();
+        item.setId(id);
+        item.setChangeSeq(changeSeq);
+        return item;
+    }
+
+    private static ItemTombstone deleted(long id, long changeSeq) {
+        return new ItemTombstone(id, "IT-CO-2401-" + id, changeSeq, Instant.EPOCH);
+    }
+
+    private static Item inSeries(Department department, Type type) {
+        Item item = new Item();
+        item.setId(7L);
+        item.setAssigningDepartment(department);
+        item.setType(type);
+        item.setAssetTag(AssetTags.format(department, "2401", type, "Laptop", 1));
+        return item;
+    }
+
+    private void record(long itemId, long id, long changeSeq) {
+        history.add(new ItemHistoryEntry(id, itemId, changeSeq, ItemChangeEvent.Kind.UPDATED, null, Instant.EPOCH, "{}"));
+    }
+}
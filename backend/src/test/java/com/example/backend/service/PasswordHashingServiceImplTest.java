@@ -0,0 +1,61 @@
+package com.example.backend.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.example.backend.config.PasswordHashingProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordHashingServiceImplTest {
+
+    private static final int STRENGTH = 5;
+
+    private PasswordHashingServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties();
+        properties.setStrength(STRENGTH);
+        properties.setThreads(1);
+        service = new PasswordHashingServiceImpl(new BCryptPasswordEncoder(STRENGTH), properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void hashAtConfiguredCostIsKept() {
+        assertFalse(service.needsRehash(service.encode("secret")));
+    }
+
+    @Test
+    void hashAtLowerCostIsRehashed() {
+        assertTrue(service.needsRehash(new BCryptPasswordEncoder(STRENGTH - 1).encode("secret")));
+    }
+
+    @Test
+    void hashAtHigherCostIsRehashed() {
+        // The cost was lowered to shed load; existing hashes follow it down
+        assertTrue(service.needsRehash(new BCryptPasswordEncoder(STRENGTH + 1).encode("secret")));
+    }
+
+    @Test
+    void otherVersionPrefixesAreRecognised() {
+        String hash = new BCryptPasswordEncoder(BCryptPasswordEncoder.BCryptVersion.$2B, STRENGTH + 1).encode("secret");
+        assertTrue(service.needsRehash(hash));
+    }
+
+    @Test
+    void valueThatIsNotABcryptHashIsLeftAlone() {
+        assertFalse(service.needsRehash("not-a-hash"));
+        assertFalse(service.needsRehash(null));
+    }
+}
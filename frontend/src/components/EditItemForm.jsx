@@ -15,15 +15,15 @@ const EditItemForm = () => {
     model: "",
     status: "",
     defaultLocation: "",
-    qrCode: null,
   });
 
   const [isDisabled, setIsDisabled] = useState(true);
   const [qrPreview, setQrPreview] = useState("https://placehold.co/40x40");
   const [qrCodeText, setQrCodeText] = useState("");
   const [showCancelModal, setShowCancelModal] = useState(false);
+  const [original, setOriginal] = useState(null);
 
-  const generateAssetTag = (assigningDepartment, type, subType, itemId) => {
+  const generateAssetTag = (assigningDepartment, type, subType) => {
     const departmentCodes = {
       "General Services / Facilities": "GS",
       IT: "IT",
@@ -43,14 +43,16 @@ const EditItemForm = () => {
 
     const subTypePart = subType ? subType.toUpperCase() : "<SubType>";
 
-    const currentDate = new Date();
-    const yy = currentDate.getFullYear().toString().slice(-2);
-    const mm = String(currentDate.getMonth() + 1).padStart(2, "0");
-    const datePart = yy + mm;
+    // The month is kept; the number is kept unless the item moves to another department/type series
+    const tagParts = original ? original.assetTag.split("-") : [];
+    const datePart = tagParts[2] || "<YYMM>";
+    const sameSeries =
+      original &&
+      original.assigningDepartment === assigningDepartment &&
+      original.type === type;
+    const sequencePart = sameSeries ? tagParts[tagParts.length - 1] : "####";
 
-    const itemIdPart = String(itemId).padStart(4, "0");
-
-    return `CMX-${departmentCode}-${datePart}-${typeCode}-${subTypePart}-${itemIdPart}`;
+    return `CMX-${departmentCode}-${datePart}-${typeCode}-${subTypePart}-${sequencePart}`;
   };
 
   // Fetch item details
@@ -78,16 +80,17 @@ const EditItemForm = () => {
           model: data.model || "",
           status: data.status || "",
           defaultLocation: data.defaultLocation || "",
-          qrCode: data.qrCode || "",
         });
 
+        setOriginal({
+          assigningDepartment: data.assigningDepartment,
+          type: data.type,
+          assetTag: data.assetTag || "",
+          version: data.version,
+        });
         setQrCodeText(data.assetTag);
 
         setIsDisabled(false);
-
-        if (data.qrCode) {
-          setQrPreview(`data:image/jpeg;base64,${data.qrCode}`);
-        }
       } catch (err) {
         navigate(location.pathname, {
           replace: true,
@@ -106,11 +109,10 @@ const EditItemForm = () => {
     const newAssetTag = generateAssetTag(
       formData.assigningDepartment,
       formData.type,
-      formData.subType,
-      id
+      formData.subType
     );
     setQrCodeText(newAssetTag);
-  }, [formData.assigningDepartment, formData.type, formData.subType, id]);
+  }, [formData.assigningDepartment, formData.type, formData.subType, original]);
 
   // Handle input changes
   const handleChange = (e) => {
@@ -131,6 +133,8 @@ const EditItemForm = () => {
         headers: {
           "Content-Type": "application/json",
           Authorization: `Bearer ${token}`,
+          // Rejected with 412 if someone else saved the item after we loaded it
+          ...(original && { "If-Match": `"${original.version}"` }),
         },
         body: JSON.stringify(formData),
       });
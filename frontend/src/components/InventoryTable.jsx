@@ -1,4 +1,4 @@
-import React, { useState, useEffect } from "react";
+import React, { useState, useEffect, useRef } from "react";
 import {
   FaEdit,
   FaTrash,
@@ -25,56 +25,165 @@ const InventoryTable = () => {
   const [filteredItems, setFilteredItems] = useState([]);
   const [menuOpen, setMenuOpen] = useState(false);
   const [isModalOpen, setIsModalOpen] = useState(false);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [scannedItem, setScannedItem] = useState(null);
+  const nextCursorRef = useRef(null);
 
-  const handleScan = (data) => {
-    setFilterText(data);
+  // A scanned label is a single server-side lookup by asset tag; the tag stays in the search box
+  const handleScan = async (assetTag) => {
+    const token = localStorage.getItem("token");
+    try {
+      const response = await fetch(
+        `${API_BASE_URL}/api/items/by-tag/${encodeURIComponent(assetTag)}`,
+        { headers: { Authorization: `Bearer ${token}` } }
+      );
+      if (response.status === 404) {
+        throw new Error(`No item with asset tag ${assetTag}`);
+      }
+      if (!response.ok) {
+        throw new Error("Failed to look up scanned item");
+      }
+      setScannedItem(await response.json());
+      setFilterText(assetTag);
+    } catch (error) {
+      navigate(location.pathname, {
+        replace: true,
+        state: { message: error.message, type: "error" },
+      });
+    }
+  };
+
+  // 1. Fetch items page by page (keyset cursor from the previous page)
+  const fetchItems = async (cursor = null) => {
+    const token = localStorage.getItem("token");
+    try {
+      const params = new URLSearchParams({ sort: "id" });
+      if (cursor) params.append("cursor", cursor);
+      const response = await fetch(`${API_BASE_URL}/api/items?${params}`, {
+        method: "GET",
+        headers: {
+          "Content-Type": "application/json",
+          Authorization: `Bearer ${token}`,
+        },
+      });
+      if (!response.ok) {
+        throw new Error("Failed to fetch items");
+      }
+      const data = await response.json();
+
+      setItems((prev) => (cursor ? [...prev, ...data.items] : data.items));
+      setNextCursor(data.nextCursor);
+      nextCursorRef.current = data.nextCursor;
+    } catch (error) {
+      navigate(location.pathname, {
+        replace: true,
+        state: { message: error.message, type: "error" },
+      });
+    } finally {
+      setLoading(false);
+    }
   };
 
-  // 1. Fetch items on component load
   useEffect(() => {
-    const fetchItems = async () => {
-      const token = localStorage.getItem("token");
-      try {
-        const response = await fetch(`${API_BASE_URL}/api/items`, {
-          method: "GET",
-          headers: {
-            "Content-Type": "application/json",
-            Authorization: `Bearer ${token}`,
-          },
-        });
-        if (!response.ok) {
-          throw new Error("Failed to fetch items");
-        }
-        const data = await response.json();
+    fetchItems();
+  }, []);
 
-        // Convert Base64 strings to proper image URLs
-        const itemsWithImages = data.map((item) => ({
-          ...item,
-          qrCode: item.qrCode && `data:image/jpeg;base64,${item.qrCode}`,
-        }));
+  // Other users' changes arrive as server-sent events. EventSource can't send the token,
+  // so the stream is read with fetch; reconnects resume from the last event id.
+  useEffect(() => {
+    const controller = new AbortController();
+    let lastEventId = null;
+    let retryMs = 3000;
 
-        setItems(itemsWithImages);
-        setFilteredItems(itemsWithImages);
-      } catch (error) {
-        navigate(location.pathname, {
-          replace: true,
-          state: { message: error.message, type: "error" },
-        });
-      } finally {
-        setLoading(false);
+    const applyEvent = (type, data) => {
+      if (type === "resync") {
+        fetchItems();
+        return;
+      }
+      const item = JSON.parse(data);
+      if (type === "deleted") {
+        setItems((prev) => prev.filter((i) => i.id !== item.id));
+      } else if (type === "updated") {
+        setItems((prev) => prev.map((i) => (i.id === item.id ? item : i)));
+      } else if (type === "created" && !nextCursorRef.current) {
+        // With pages still unloaded, the new item comes with the last page instead
+        setItems((prev) => (prev.some((i) => i.id === item.id) ? prev : [...prev, item]));
       }
     };
 
-    fetchItems();
+    const listen = async () => {
+      while (!controller.signal.aborted) {
+        try {
+          const headers = { Authorization: `Bearer ${localStorage.getItem("token")}` };
+          if (lastEventId) headers["Last-Event-ID"] = lastEventId;
+          const response = await fetch(`${API_BASE_URL}/api/items/events`, {
+            headers,
+            signal: controller.signal,
+          });
+          if (response.status === 401 || response.status === 403) {
+            return; // Session ended; the next page load logs in again
+          }
+          if (response.ok) {
+            const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+            let buffer = "";
+            for (;;) {
+              const { value, done } = await reader.read();
+              if (done) break;
+              buffer += value;
+              let end;
+              while ((end = buffer.indexOf("\n\n")) >= 0) {
+                let type = "message";
+                let data = "";
+                for (const line of buffer.slice(0, end).split("\n")) {
+                  const field = line.slice(0, line.indexOf(":"));
+                  const text = line.slice(line.indexOf(":") + 1);
+                  if (field === "id") lastEventId = text;
+                  else if (field === "event") type = text;
+                  else if (field === "data") data += text;
+                  else if (field === "retry") retryMs = Number(text);
+                }
+                buffer = buffer.slice(end + 2);
+                if (data) applyEvent(type, data);
+              }
+            }
+          }
+        } catch (error) {
+          if (controller.signal.aborted) return;
+        }
+        await new Promise((resolve) => setTimeout(resolve, retryMs));
+      }
+    };
+
+    listen();
+    return () => controller.abort();
   }, []);
 
   // 2. Helper functions for modals
-  const openViewQRModal = (item) => {
-    setSelectedItem(item);
-    setIsViewQRModalOpen(true);
+  // QR images are served separately; fetch with the token and show as an object URL
+  const openViewQRModal = async (item) => {
+    const token = localStorage.getItem("token");
+    try {
+      const response = await fetch(`${API_BASE_URL}${item.qrCodeUrl}`, {
+        headers: { Authorization: `Bearer ${token}` },
+      });
+      if (!response.ok) {
+        throw new Error("Failed to load QR code");
+      }
+      const blob = await response.blob();
+      setSelectedItem({ ...item, qrCode: URL.createObjectURL(blob) });
+      setIsViewQRModalOpen(true);
+    } catch (error) {
+      navigate(location.pathname, {
+        replace: true,
+        state: { message: error.message, type: "error" },
+      });
+    }
   };
 
   const closeViewQRModal = () => {
+    if (selectedItem?.qrCode) {
+      URL.revokeObjectURL(selectedItem.qrCode);
+    }
     setIsViewQRModalOpen(false);
     setSelectedItem(null);
   };
@@ -108,6 +217,32 @@ const InventoryTable = () => {
     document.body.removeChild(link);
   };
 
+  // Export is produced server-side and streamed as a file download
+  const exportItems = async () => {
+    const token = localStorage.getItem("token");
+    try {
+      const response = await fetch(`${API_BASE_URL}/api/items/export?format=csv`, {
+        headers: { Authorization: `Bearer ${token}` },
+      });
+      if (!response.ok) {
+        throw new Error("Failed to export items");
+      }
+      const url = URL.createObjectURL(await response.blob());
+      const link = document.createElement("a");
+      link.href = url;
+      link.download = "items.csv";
+      document.body.appendChild(link);
+      link.click();
+      document.body.removeChild(link);
+      URL.revokeObjectURL(url);
+    } catch (error) {
+      navigate(location.pathname, {
+        replace: true,
+        state: { message: error.message, type: "error" },
+      });
+    }
+  };
+
   // 4. Helper function to delete item from db
   const confirmDelete = async () => {
     if (!selectedItem) return;
@@ -136,6 +271,9 @@ const InventoryTable = () => {
       setFilteredItems(
         filteredItems.filter((item) => item.id !== selectedItem.id)
       );
+      if (scannedItem && scannedItem.id === selectedItem.id) {
+        setScannedItem(null);
+      }
 
       navigate(location.pathname, {
         replace: true,
@@ -153,16 +291,36 @@ const InventoryTable = () => {
     }
   };
 
+  // Filtering searches the whole inventory server-side, not just the loaded pages
   useEffect(() => {
-    const filterItems = async () => {
-      setFilteredItems(
-        items.filter((item) =>
-          item.assetTag.toLowerCase().includes(filterText.toLowerCase())
-        )
-      );
-    };
-    filterItems();
-  }, [filterText, items]);
+    if (!filterText.trim()) {
+      setFilteredItems(items);
+      return;
+    }
+    if (scannedItem && scannedItem.assetTag === filterText) {
+      setFilteredItems([scannedItem]);
+      return;
+    }
+    const timer = setTimeout(async () => {
+      const token = localStorage.getItem("token");
+      try {
+        const params = new URLSearchParams({ q: filterText });
+        const response = await fetch(`${API_BASE_URL}/api/items/search?${params}`, {
+          headers: { Authorization: `Bearer ${token}` },
+        });
+        if (!response.ok) {
+          throw new Error("Failed to search items");
+        }
+        setFilteredItems(await response.json());
+      } catch (error) {
+        navigate(location.pathname, {
+          replace: true,
+          state: { message: error.message, type: "error" },
+        });
+      }
+    }, 200);
+    return () => clearTimeout(timer);
+  }, [filterText, items, scannedItem]);
 
   return (
     <div className="flex flex-col items-center p-4">
@@ -181,11 +339,17 @@ const InventoryTable = () => {
             </button>
             <input
               type="text"
-              placeholder="Filter by Asset Tag..."
+              placeholder="Search items..."
               value={filterText}
               onChange={(e) => setFilterText(e.target.value)}
               className="border p-2 rounded-md text-sm flex-1 mx-4"
             />
+            <button
+              className="bg-gray-500 text-white px-4 py-2 rounded hover:bg-gray-600 flex items-center"
+              onClick={exportItems}
+            >
+              <FaDownload className="mr-2" /> Export
+            </button>
             <button
               className="bg-green-500 text-white px-4 py-2 rounded hover:bg-green-600 flex items-center"
               onClick={() => {
@@ -217,7 +381,7 @@ const InventoryTable = () => {
             </button>
             <input
               type="text"
-              placeholder="Filter by Asset Tag..."
+              placeholder="Search items..."
               value={filterText}
               onChange={(e) => setFilterText(e.target.value)}
               className="border p-2 rounded-md text-sm flex-1"
@@ -330,6 +494,16 @@ const InventoryTable = () => {
             </tbody>
           </table>
         </div>
+        {nextCursor && (
+          <div className="flex justify-center mt-4">
+            <button
+              className="bg-gray-500 text-white px-4 py-2 rounded hover:bg-gray-600"
+              onClick={() => fetchItems(nextCursor)}
+            >
+              Load more
+            </button>
+          </div>
+        )}
       </div>
 
       {/* Scan QR Modal */}
@@ -14,6 +14,7 @@ const UsersTable = () => {
   const [selectedUser, setSelectedUser] = useState(null);
   const [currentUserRole, setCurrentUserRole] = useState(null);
   const [currentUserId, setCurrentUserId] = useState(null); // New state for current user ID
+  const [nextCursor, setNextCursor] = useState(null);
 
   useEffect(() => {
     const token = localStorage.getItem("token");
@@ -29,39 +30,43 @@ const UsersTable = () => {
       }
     }
 
-    const fetchUsers = async () => {
-      try {
-        const response = await fetch(`${API_BASE_URL}/api/users`, {
-          method: "GET",
-          headers: {
-            "Content-Type": "application/json",
-            Authorization: `Bearer ${token}`,
-          },
-        });
+    fetchUsers();
+  }, [navigate]);
 
-        if (!response.ok) throw new Error("Failed to fetch users");
+  const fetchUsers = async (cursor = null) => {
+    const token = localStorage.getItem("token");
+    try {
+      const params = new URLSearchParams({ sort: "id" });
+      if (cursor) params.append("cursor", cursor);
+      const response = await fetch(`${API_BASE_URL}/api/users?${params}`, {
+        method: "GET",
+        headers: {
+          "Content-Type": "application/json",
+          Authorization: `Bearer ${token}`,
+        },
+      });
 
-        const data = await response.json();
-        setUsers(data);
+      if (!response.ok) throw new Error("Failed to fetch users");
 
-        const initialTypes = data.reduce((acc, user) => {
-          acc[user.id] = user.role?.toLowerCase() || "user";
-          return acc;
-        }, {});
+      const data = await response.json();
+      setUsers((prev) => (cursor ? [...prev, ...data.items] : data.items));
+      setNextCursor(data.nextCursor);
 
-        setSelectedType(initialTypes);
-      } catch (error) {
-        navigate(location.pathname, {
-          replace: true,
-          state: { message: error.message, type: "error" },
-        });
-      } finally {
-        setLoading(false);
-      }
-    };
+      const initialTypes = data.items.reduce((acc, user) => {
+        acc[user.id] = user.role?.toLowerCase() || "user";
+        return acc;
+      }, {});
 
-    fetchUsers();
-  }, [navigate]);
+      setSelectedType((prev) => ({ ...prev, ...initialTypes }));
+    } catch (error) {
+      navigate(location.pathname, {
+        replace: true,
+        state: { message: error.message, type: "error" },
+      });
+    } finally {
+      setLoading(false);
+    }
+  };
 
   const handleTypeChange = (userId, type) => {
     setSelectedType((prev) => ({ ...prev, [userId]: type }));
@@ -243,6 +248,16 @@ const UsersTable = () => {
             </tbody>
           </table>
         </div>
+        {nextCursor && (
+          <div className="flex justify-center mt-4">
+            <button
+              className="bg-gray-500 text-white px-4 py-2 rounded hover:bg-gray-600"
+              onClick={() => fetchUsers(nextCursor)}
+            >
+              Load more
+            </button>
+          </div>
+        )}
       </div>
 
       {/* Delete Confirmation Modal */}
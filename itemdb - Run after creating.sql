@@ -1,2 +0,0 @@
-USE itemdb;
-ALTER TABLE items MODIFY asset_tag VARCHAR(255) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin;